@@ -0,0 +1,239 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.client.TimeChangerStruggleClient;
+import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
+import jugglestruggle.timechangerstruggle.config.Configuration;
+import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Measures reading and writing the configuration file, which happens once
+ * when the game starts and after every change made through the screen or
+ * the commands.
+ *
+ * <p> The small file only has the global options while the large one has
+ * an active cycle, the sections of every built-in cycle and a few hundred
+ * sections of made-up cycles (as if many other mods added their own), each
+ * in its own file like the configuration keeps them.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationBenchmark
+{
+	private static final int LARGE_EXTRA_SECTIONS = 256;
+	private static final int LARGE_EXTRA_PROPERTIES = 16;
+
+	@Param({"small", "large"})
+	public String size;
+	/**
+	 * Where {@link #read()} gets the configuration from: either the JSON files
+	 * or the binary snapshot that is made after every write.
+	 */
+	@Param({"json", "snapshot"})
+	public String source;
+
+	private File configDirectory;
+	private File configFile;
+	private Configuration config;
+	private Gson gson;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		this.configDirectory = Files.createTempDirectory("DaylightChangerStruggle").toFile();
+		this.configFile = new File(this.configDirectory, "DaylightChangerStruggle.json");
+		this.gson = new GsonBuilder().setPrettyPrinting().create();
+
+		JsonObject data = new JsonObject();
+
+		data.addProperty("worldTime", false);
+		data.addProperty("dateOverTicks", false);
+		data.addProperty("smoothButterCycle", true);
+		data.addProperty("disableNightVisionEffect", false);
+		data.addProperty("applyOnPropertyListValueUpdate", false);
+		data.addProperty("commandFeedbackOnLessImportant", true);
+		data.addProperty("disableWorldTimeOnCycleUsage", true);
+
+		if (this.size.equals("large"))
+		{
+			data.addProperty("activeDaylightChanger", "randomizers");
+
+			for (DayNightCycleBuilder builder : TimeChangerStruggleClient.getCachedCycleTypeBuilders())
+			{
+				final DayNightCycleBasis cycle = builder.create();
+				final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+
+				if (props == null || props.isEmpty())
+					continue;
+
+				JsonObject section = new JsonObject();
+
+				for (BaseProperty<?, ?> prop : props)
+				{
+					if (prop instanceof FancySectionProperty)
+						continue;
+
+					final JsonElement propElem = prop.writeToJson();
+
+					if (propElem != null)
+						section.add(prop.property(), propElem);
+				}
+
+				this.writeCycleSection(builder.getKeyName(), section);
+			}
+
+			for (int i = 0; i < ConfigurationBenchmark.LARGE_EXTRA_SECTIONS; ++i)
+			{
+				JsonObject section = new JsonObject();
+
+				for (int j = 0; j < ConfigurationBenchmark.LARGE_EXTRA_PROPERTIES; ++j)
+				{
+					section.addProperty("number" + j, i * j * 31L);
+					section.addProperty("text" + j, "value " + i + " of " + j);
+				}
+
+				this.writeCycleSection("benchmarkcycle" + i, section);
+			}
+		}
+		else
+		{
+			data.addProperty("activeDaylightChanger", "");
+		}
+
+		try (Writer writer = new FileWriter(this.configFile)) {
+			this.gson.toJson(data, writer);
+		}
+
+		this.config = new Configuration(this.configFile);
+		this.config.read();
+
+		if (this.source.equals("snapshot"))
+		{
+			this.config.write();
+			this.config.flush();
+		}
+	}
+
+	private void writeCycleSection(String cycleKeyName, JsonObject section) throws IOException
+	{
+		final File cyclesDirectory = new File(this.configDirectory, "DaylightChangerStruggle");
+		cyclesDirectory.mkdirs();
+
+		try (Writer writer = new FileWriter(new File(cyclesDirectory, cycleKeyName + ".json"))) {
+			this.gson.toJson(section, writer);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		this.config.flush();
+
+		try (Stream<Path> paths = Files.walk(this.configDirectory.toPath())) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public Configuration read()
+	{
+		Configuration readConfig = new Configuration(this.configFile);
+		readConfig.read();
+
+		return readConfig;
+	}
+
+	/**
+	 * How the configuration used to be read: the whole file (and the active
+	 * cycle's file) parsed into trees which were then kept in memory for the
+	 * whole session; compare with {@link #read()}.
+	 */
+	@Benchmark
+	public JsonElement[] readAsTree() throws IOException
+	{
+		final JsonElement[] trees = new JsonElement[2];
+
+		try (Reader reader = new BufferedReader(new FileReader(this.configFile))) {
+			trees[0] = JsonParser.parseReader(reader);
+		}
+
+		final File activeCycleFile = new File(this.configDirectory, "DaylightChangerStruggle/randomizers.json");
+
+		if (activeCycleFile.exists())
+		{
+			try (Reader reader = new BufferedReader(new FileReader(activeCycleFile))) {
+				trees[1] = JsonParser.parseReader(reader);
+			}
+		}
+
+		return trees;
+	}
+
+	/**
+	 * Writes are normally delayed and done on another thread, so flush
+	 * right away to measure the write itself.
+	 */
+	@Benchmark
+	public void write() 
+	{
+		this.config.write();
+		this.config.flush();
+	}
+
+	/**
+	 * Saves the active cycle and writes only if something was modified;
+	 * as nothing changes between calls this measures the skipped write.
+	 */
+	@Benchmark
+	public void saveUnchanged()
+	{
+		final DayNightCycleBasis cycle = TimeChangerStruggleClient.getTimeChanger();
+
+		if (cycle != null)
+			this.config.createOrModifyDaylightCycleConfig(cycle, true);
+
+		this.config.writeIfModified();
+	}
+}
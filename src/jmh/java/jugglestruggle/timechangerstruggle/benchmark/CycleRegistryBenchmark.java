@@ -0,0 +1,100 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleRegistry;
+import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
+import jugglestruggle.timechangerstruggle.daynight.type.StaticTime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.Text;
+
+/**
+ * Measures what happens on every cycle switch and every configuration
+ * write: finding a cycle's builder from its class and finding the cycle
+ * that comes after the current one, with many other builders registered
+ * before them (like those of other mods).
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleRegistryBenchmark
+{
+	@Param({"0", "100", "1000"})
+	public int otherBuilders;
+
+	private DayNightCycleRegistry registry;
+	private String currentKey;
+
+	@Setup
+	public void setup()
+	{
+		this.registry = new DayNightCycleRegistry(this.otherBuilders + 2);
+
+		for (int i = 0; i < this.otherBuilders; ++i)
+			this.registry.register(new OtherBuilder("other" + i));
+
+		this.registry.register(new StaticTime.Builder());
+		this.registry.register(new RandomizedTime.Builder());
+
+		this.currentKey = "statictime";
+	}
+
+	@Benchmark
+	public DayNightCycleBuilder getByBuilderClass() {
+		return this.registry.getByBuilderClass(RandomizedTime.Builder.class);
+	}
+
+	@Benchmark
+	public String next()
+	{
+		this.currentKey = this.registry.next(this.currentKey).getKeyName();
+		return this.currentKey;
+	}
+
+	private static final class OtherBuilder implements DayNightCycleBuilder
+	{
+		private final String key;
+
+		OtherBuilder(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public DayNightCycleBasis create() {
+			return new StaticTime();
+		}
+		@Override
+		public String getKeyName() {
+			return this.key;
+		}
+		@Override
+		public Text getTranslatableName() {
+			return new LiteralText(this.key);
+		}
+		@Override
+		public Text getTranslatableDescription() {
+			return LiteralText.EMPTY;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.config.property.LongValue;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.type.KeyframeTime;
+import jugglestruggle.timechangerstruggle.daynight.type.MovingTime;
+import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DayNightCycleBasis#seek(long)} against calling
+ * {@link DayNightCycleBasis#tick()} as many times, which is what seeking
+ * used to be.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleSeekBenchmark
+{
+	@Param({"movingtime", "movingtimeimmediate", "randomizers", "keyframetime"})
+	public String cycleType;
+
+	@Param({"100000"})
+	public long ticks;
+
+	private DayNightCycleBasis cycle;
+
+	@Setup
+	public void setup()
+	{
+		this.cycle = switch (this.cycleType)
+		{
+			case "movingtime" -> new MovingTime();
+			case "movingtimeimmediate" ->
+			{
+				// Updates on every tick rather than interpolating between updates
+				MovingTime movingTime = new MovingTime();
+				movingTime.writePropertyValueToCycle(new LongValue("ticksUntilNextUpdate", 0L, 0L, Long.MAX_VALUE));
+
+				yield movingTime;
+			}
+			case "randomizers" -> new RandomizedTime("1234", true);
+			case "keyframetime" -> new KeyframeTime();
+			default -> throw new IllegalArgumentException(this.cycleType);
+		};
+	}
+
+	@Benchmark
+	public long seek()
+	{
+		this.cycle.seek(this.ticks);
+		return this.cycle.getCachedTime();
+	}
+
+	@Benchmark
+	public long tickLoop()
+	{
+		for (long i = 0L; i < this.ticks; ++i)
+			this.cycle.tick();
+
+		return this.cycle.getCachedTime();
+	}
+}
@@ -0,0 +1,68 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.type.MovingTime;
+import jugglestruggle.timechangerstruggle.daynight.type.MovingTimeBasis;
+import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single {@link MovingTimeBasis#tick()} of the cycles that
+ * move on their own, which is what happens on every world tick.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CycleTickBenchmark
+{
+	@Param({"movingtime", "randomizers"})
+	public String cycleType;
+
+	private MovingTimeBasis cycle;
+
+	@Setup
+	public void setup()
+	{
+		this.cycle = switch (this.cycleType)
+		{
+			case "movingtime" -> new MovingTime();
+			case "randomizers" -> 
+			{
+				RandomizedTime randomizedTime = new RandomizedTime("1234", true);
+				
+				// Have it change everything it can so that the worst case is measured
+				randomizedTime.randomizeTicksUntilNextRNG = true;
+				randomizedTime.randomizeEasingBetweenTicks = true;
+				randomizedTime.randomizeEasingTypeBetweenTicks = true;
+				
+				yield randomizedTime;
+			}
+			default -> throw new IllegalArgumentException(this.cycleType);
+		};
+	}
+
+	@Benchmark
+	public long tick()
+	{
+		this.cycle.tick();
+		return this.cycle.getCachedTime();
+	}
+}
@@ -0,0 +1,59 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.util.DaylightTimeFormatter;
+import jugglestruggle.timechangerstruggle.util.DaylightUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures turning ticks into the date shown by the screen (every frame)
+ * and by the time command, both the old way and through the formatter.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatBenchmark
+{
+	private final DaylightTimeFormatter formatter = new DaylightTimeFormatter();
+
+	private long ticks = 0L;
+
+	@Benchmark
+	public String ticksToFormattedDate()
+	{
+		// Moves like a cycle would so that each call formats a different time
+		this.ticks += 7L;
+		return DaylightUtils.DATE_FORMAT.format(DaylightUtils.minecraftTicksToDate(this.ticks, true));
+	}
+
+	@Benchmark
+	public String formatterChangedTicks()
+	{
+		this.ticks += 7L;
+		return this.formatter.format(this.ticks, true, true);
+	}
+
+	/**
+	 * What happens on most frames as the time only changes once per tick.
+	 */
+	@Benchmark
+	public String formatterSameTicks() {
+		return this.formatter.format(this.ticks, true, true);
+	}
+}
@@ -0,0 +1,71 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.util.EasingTable;
+import jugglestruggle.timechangerstruggle.util.EasingType;
+import jugglestruggle.timechangerstruggle.util.Easings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Easings#value(EasingType, double)} (and its lookup table
+ * counterpart) for every curve and type, which is called on every tick by
+ * the moving cycles and on every frame by the rainbow colours.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasingsBenchmark
+{
+	private static final int DELTAS = 64;
+
+	/**
+	 * Left empty so that JMH runs every curve.
+	 */
+	@Param({})
+	public Easings easing;
+	@Param({})
+	public EasingType type;
+	@Param({"false", "true"})
+	public boolean lookupTables;
+
+	private double[] deltas;
+
+	@Setup
+	public void setup()
+	{
+		EasingTable.setEnabled(this.lookupTables);
+
+		this.deltas = new double[EasingsBenchmark.DELTAS];
+
+		for (int i = 0; i < EasingsBenchmark.DELTAS; ++i)
+			this.deltas[i] = (double)i / (double)(EasingsBenchmark.DELTAS - 1);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EasingsBenchmark.DELTAS)
+	public void evaluate(Blackhole blackhole)
+	{
+		for (double delta : this.deltas)
+			blackhole.consume(this.easing.evaluate(this.type, delta));
+	}
+}
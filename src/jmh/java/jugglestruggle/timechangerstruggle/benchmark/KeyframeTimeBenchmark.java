@@ -0,0 +1,71 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.type.KeyframeTime;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single {@link KeyframeTime#tick()} and a seek to anywhere
+ * on the timeline, with timelines of a few and of many keyframes.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyframeTimeBenchmark
+{
+	@Param({"4", "5000"})
+	public int keyframes;
+
+	private KeyframeTime cycle;
+	private long timelineLength;
+	private Random random;
+
+	@Setup
+	public void setup()
+	{
+		StringBuilder timeline = new StringBuilder();
+
+		// Short keyframes so that ticking goes through many of them
+		for (int i = 0; i < this.keyframes; ++i)
+			timeline.append(i * 20).append(':').append(i * 600).append(":sine:between;");
+
+		this.cycle = new KeyframeTime();
+		this.cycle.setKeyframes(timeline.toString());
+
+		this.timelineLength = (long)this.keyframes * 20L;
+		this.random = new Random(1234L);
+	}
+
+	@Benchmark
+	public long tick()
+	{
+		this.cycle.tick();
+		return this.cycle.getCachedTime();
+	}
+
+	@Benchmark
+	public long seek()
+	{
+		this.cycle.seekTo(this.random.nextLong(this.timelineLength));
+		return this.cycle.getCachedTime();
+	}
+}
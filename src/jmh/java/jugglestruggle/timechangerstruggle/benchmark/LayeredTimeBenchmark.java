@@ -0,0 +1,66 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.simulation.SimulatedCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.type.LayeredTime;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single {@link LayeredTime#tick()}, which ticks and blends
+ * every layer; compare it with the layers' own ticks in
+ * {@link CycleTickBenchmark} and {@link SystemTimeBenchmark}.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayeredTimeBenchmark
+{
+	@Param({
+		"systemtime; lowtohighheighttime:override:depth",
+		"movingtime; randomizers:add:0.05; statictime:average:0.5"
+	})
+	public String layers;
+
+	private SimulatedCycleEnvironment environment;
+	private LayeredTime cycle;
+
+	@Setup
+	public void setup()
+	{
+		// The camera goes up and down so that the depth weight keeps on changing
+		this.environment = new SimulatedCycleEnvironment(System.currentTimeMillis(),
+			TimeZone.getTimeZone("UTC"), 0L, tick -> 32.0 + 48.0 * Math.sin(tick / 200.0));
+
+		this.cycle = new LayeredTime();
+		this.cycle.setLayers(this.layers);
+		this.cycle.setEnvironment(this.environment);
+	}
+
+	@Benchmark
+	public long tick()
+	{
+		this.environment.advanceTick();
+		this.cycle.tick();
+
+		return this.cycle.getCachedTime();
+	}
+}
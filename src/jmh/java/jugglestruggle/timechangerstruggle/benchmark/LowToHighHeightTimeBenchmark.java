@@ -0,0 +1,63 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.simulation.SimulatedCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.type.LowToHighHeightTime;
+import jugglestruggle.timechangerstruggle.util.Easings;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single {@link LowToHighHeightTime#tick()} with a camera that
+ * stands still, where the time is never worked out again, and one that
+ * keeps on moving, where it always is.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LowToHighHeightTimeBenchmark
+{
+	@Param({"still", "moving"})
+	public String camera;
+
+	private SimulatedCycleEnvironment environment;
+	private LowToHighHeightTime cycle;
+
+	@Setup
+	public void setup()
+	{
+		this.environment = new SimulatedCycleEnvironment(System.currentTimeMillis(), TimeZone.getTimeZone("UTC"), 0L,
+			this.camera.equals("still") ? tick -> 32.0 : tick -> 32.0 + 32.0 * Math.sin(tick / 100.0));
+
+		this.cycle = new LowToHighHeightTime();
+		this.cycle.easing = Easings.SINE;
+		this.cycle.setEnvironment(this.environment);
+	}
+
+	@Benchmark
+	public long tick()
+	{
+		this.environment.advanceTick();
+		this.cycle.tick();
+
+		return this.cycle.getCachedTime();
+	}
+}
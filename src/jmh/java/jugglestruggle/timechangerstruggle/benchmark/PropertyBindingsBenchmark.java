@@ -0,0 +1,74 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing every property of the randomized time back to it
+ * through {@link DayNightCycleBasis#writePropertyValueToCycle}, which goes
+ * through the cycle's {@link CyclePropertyBindings}.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBindingsBenchmark
+{
+	/**
+	 * "resolved" writes the same properties every time, which already know
+	 * their index, while "unresolved" writes fresh properties every time
+	 * (like when the configuration is loaded).
+	 */
+	@Param({"resolved", "unresolved"})
+	public String properties;
+
+	private RandomizedTime cycle;
+	private Set<BaseProperty<?, ?>> props;
+
+	@Setup
+	public void setup()
+	{
+		// Ticked once so that writing the seed does not create a new random
+		// generator every time, which would be most of what is measured
+		this.cycle = new RandomizedTime("1234", true);
+		this.cycle.tick();
+		this.props = this.cycle.createProperties();
+
+		for (BaseProperty<?, ?> prop : this.props)
+			this.cycle.writePropertyValueToCycle(prop);
+	}
+
+	@Benchmark
+	public RandomizedTime writeAll()
+	{
+		final Set<BaseProperty<?, ?>> propsToWrite = this.properties.equals("resolved") ? 
+			this.props : this.cycle.createProperties();
+
+		for (BaseProperty<?, ?> prop : propsToWrite)
+			this.cycle.writePropertyValueToCycle(prop);
+
+		return this.cycle;
+	}
+}
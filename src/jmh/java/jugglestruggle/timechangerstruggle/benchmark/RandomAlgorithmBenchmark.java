@@ -0,0 +1,70 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.util.CycleRandom;
+import jugglestruggle.timechangerstruggle.util.RandomAlgorithm;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a bounded value from each of the {@link RandomAlgorithm}s
+ * against {@link java.util.Random}, along with jumping to a far away
+ * stream.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomAlgorithmBenchmark
+{
+	@Param({"JAVA", "SPLITMIX", "XOROSHIRO"})
+	public RandomAlgorithm algorithm;
+
+	private CycleRandom rng;
+	private Random javaRandom;
+	private long stream;
+
+	@Setup
+	public void setup()
+	{
+		this.rng = this.algorithm.create(1234L);
+		this.javaRandom = new Random(1234L);
+	}
+
+	@Benchmark
+	public long nextLong() {
+		return this.rng.nextLong(0L, 24001L);
+	}
+
+	@Benchmark
+	public long javaRandomNextLong() {
+		return this.javaRandom.nextLong(0L, 24001L);
+	}
+
+	@Benchmark
+	public long jumpToStream()
+	{
+		// Streams far apart, which replaying would never get to
+		this.stream += 1_000_003L;
+		this.rng.jumpToStream(this.stream);
+
+		return this.rng.nextLong();
+	}
+}
@@ -0,0 +1,76 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
+import jugglestruggle.timechangerstruggle.client.config.widget.WidgetConfigInterface;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.type.MovingTime;
+import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DayNightCycleBasis#rearrangeSectionElements} which is
+ * used whenever the property list in the screen is (re)built.
+ *
+ * <p> The widgets are left as {@code null} since the method only moves
+ * them around and never looks at them.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RearrangeSectionElementsBenchmark
+{
+	/**
+	 * "default" uses the interface's own layout while "randomizer" uses 
+	 * the overridden one of the randomized time's section.
+	 */
+	@Param({"default", "randomizer"})
+	public String layout;
+	@Param({"4", "16"})
+	public int elements;
+
+	private DayNightCycleBasis cycle;
+	private Map.Entry<FancySectionProperty, List<WidgetConfigInterface<?, ?>>> section;
+
+	@Setup
+	public void setup()
+	{
+		final String sectionKey;
+
+		if (this.layout.equals("randomizer")) {
+			this.cycle = new RandomizedTime("1234", false); sectionKey = "ticksuntilnextrng";
+		} else {
+			this.cycle = new MovingTime(); sectionKey = "benchmark";
+		}
+
+		this.section = new SimpleImmutableEntry<>(new FancySectionProperty(sectionKey, null), 
+			Arrays.asList(new WidgetConfigInterface<?, ?>[this.elements]));
+	}
+
+	@Benchmark
+	public WidgetConfigInterface<?, ?>[][] rearrange() {
+		return this.cycle.rearrangeSectionElements(this.section, 2);
+	}
+}
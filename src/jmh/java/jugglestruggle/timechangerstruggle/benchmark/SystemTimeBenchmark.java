@@ -0,0 +1,81 @@
+package jugglestruggle.timechangerstruggle.benchmark;
+
+import jugglestruggle.timechangerstruggle.daynight.simulation.SimulatedCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.type.SystemTime;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a {@link SystemTime} tick; the GC profiler's normalized
+ * allocation rate ({@code gc.alloc.rate.norm}) should stay at 0 bytes per
+ * operation as the zone offset and the day of the year are only looked up
+ * when they change.
+ *
+ * <p> {@link #calendar()} does what the cycle used to do on every tick 
+ * for comparison's sake.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemTimeBenchmark
+{
+	/**
+	 * One with daylight saving time and one without any transitions.
+	 */
+	@Param({"Europe/Madrid", "UTC"})
+	public String zone;
+
+	private SimulatedCycleEnvironment environment;
+	private SystemTime cycle;
+
+	@Setup
+	public void setup()
+	{
+		this.environment = new SimulatedCycleEnvironment(System.currentTimeMillis(), 
+			TimeZone.getTimeZone(this.zone), 0L, tick -> Double.NaN);
+
+		this.cycle = new SystemTime();
+		this.cycle.setEnvironment(this.environment);
+	}
+
+	@Benchmark
+	public long tick()
+	{
+		this.environment.advanceTick();
+		this.cycle.tick();
+
+		return this.cycle.getCachedTime();
+	}
+
+	@Benchmark
+	public long calendar()
+	{
+		this.environment.advanceTick();
+
+		Calendar now = Calendar.getInstance(this.environment.getTimeZone());
+		now.setTimeInMillis(this.environment.currentTimeMillis());
+
+		return now.get(Calendar.DAY_OF_YEAR) * 24000L + now.get(Calendar.HOUR_OF_DAY) * 1000L + 
+			now.get(Calendar.MINUTE) * 1000L / 60L + now.get(Calendar.SECOND) * 1000L / 3600L;
+	}
+}
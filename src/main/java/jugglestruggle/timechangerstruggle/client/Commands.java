@@ -1,23 +1,34 @@
 package jugglestruggle.timechangerstruggle.client;
 
+import jugglestruggle.timechangerstruggle.TimeChangerStruggle;
 import jugglestruggle.timechangerstruggle.client.screen.TimeChangerScreen;
+import jugglestruggle.timechangerstruggle.client.util.debug.OffThreadTimeCalls;
+import jugglestruggle.timechangerstruggle.client.util.render.SkyAngleCache;
+import jugglestruggle.timechangerstruggle.config.CycleProfiles;
 import jugglestruggle.timechangerstruggle.config.property.LongValue;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.simulation.ClientCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleSimulator;
+import jugglestruggle.timechangerstruggle.daynight.simulation.SimulatedCycleEnvironment;
 import jugglestruggle.timechangerstruggle.util.DaylightUtils;
+import jugglestruggle.timechangerstruggle.util.EasingTable;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.ClientCommandManager;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.UnaryOperator;
 
+import net.minecraft.command.CommandSource;
 import net.minecraft.command.argument.TimeArgumentType;
 import net.minecraft.network.MessageType;
 import net.minecraft.text.ClickEvent;
@@ -37,9 +48,12 @@ import com.google.common.collect.Lists;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 
 /**
@@ -111,6 +125,29 @@ public class Commands
 			.then(StaticTimeSetCommand.addSubtimeCommands(StaticTimeMode.SET))
 			.then(StaticTimeSetCommand.addSubtimeCommands(StaticTimeMode.REMOVE))
 		);
+		
+		//
+		// Seek: Moves the current cycle forward to see where it will be later on
+		//
+		base.then
+		(
+			ClientCommandManager.literal("seek").then
+			(
+				// Capped as some cycles can only be seeked a tick at a time
+				ClientCommandManager.argument("ticks", LongArgumentType.longArg(1L, 10_000_000L))
+				.executes(this::seekCurrentCycle)
+			)
+		);
+		
+		//
+		// Profile: Switches to one of the named sets of properties that were saved for a cycle
+		//
+		base.then(this.generateProfileSubcommand());
+		
+		//
+		// Debug: Diagnostics which are mostly useful to see whether the caches behave
+		//
+		base.then(this.generateDebugSubcommand());
 
 		return base;
 	}
@@ -399,9 +436,369 @@ public class Commands
 				new TranslatableText("jugglestruggle.tcs.cmd.option.commandfeedbackonlessimportant"), 
 				() -> TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant, 
 				currentValue -> TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant = currentValue
+			))
+			.then(this.generateOptionSubcommandBoolAction
+			(
+				"easingLookupTables", 
+				new TranslatableText("jugglestruggle.tcs.cmd.option.easinglookuptables"), 
+				() -> EasingTable.isEnabled(), 
+				currentValue -> 
+				{
+					EasingTable.setEnabled(currentValue);
+					return currentValue;
+				}
 			));
 	}
 	
+	private LiteralArgumentBuilder<FabricClientCommandSource> generateProfileSubcommand()
+	{
+		final SuggestionProvider<FabricClientCommandSource> profileSuggestions = (ctx, builder) -> 
+			CommandSource.suggestMatching(TimeChangerStruggleClient.config.getProfiles().getProfiles()
+				.stream().map(CycleProfiles.Profile::name), builder);
+		
+		return ClientCommandManager.literal("profile")
+			.executes(this::listProfiles)
+			.then
+			(
+				ClientCommandManager.literal("save").then
+				(
+					ClientCommandManager.argument("name", StringArgumentType.word())
+					.suggests(profileSuggestions).executes(this::saveProfile)
+				)
+			)
+			.then
+			(
+				ClientCommandManager.literal("remove").then
+				(
+					ClientCommandManager.argument("name", StringArgumentType.word())
+					.suggests(profileSuggestions).executes(this::removeProfile)
+				)
+			)
+			.then
+			(
+				ClientCommandManager.argument("name", StringArgumentType.word())
+				.suggests(profileSuggestions).executes(this::useProfile)
+			);
+	}
+	
+	private int listProfiles(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final Collection<CycleProfiles.Profile> profiles = TimeChangerStruggleClient.config.getProfiles().getProfiles();
+		final String starterCommand = Commands.getStarterCommand(ctx);
+		
+		if (profiles.isEmpty())
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFFDD00),
+				"jugglestruggle.tcs.cmd.profile.listing.empty", 
+				String.format("/%1$s profile save", starterCommand)
+			);
+			
+			return 0;
+		}
+		
+		final Optional<CycleProfiles.Profile> lastApplied = TimeChangerStruggleClient.config.getProfiles().getLastAppliedProfile();
+		
+		profiles.forEach(profile -> 
+		{
+			final boolean isLastApplied = lastApplied.isPresent() && lastApplied.get() == profile;
+			final Optional<DayNightCycleBuilder> cycle = TimeChangerStruggleClient.getCachedCycleBuilderByKey(profile.cycleKeyName());
+			
+			LiteralText useProfile = new LiteralText("[\u2192]");
+			
+			useProfile.styled(style -> 
+			{
+				return style
+					.withColor(isLastApplied ? 0xFF5511 : 0x55FF11)
+					.withClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, 
+						String.format("/%1$s profile %2$s", starterCommand, profile.name())))
+					.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, 
+						new TranslatableText("jugglestruggle.tcs.cmd.profile.listing.use", profile.name())))
+					.withBold(true);
+			});
+			
+			Commands.sendTextToChat(ctx, new TranslatableText("%1$s %2$s (%3$s)", useProfile, profile.name(), 
+				cycle.isPresent() ? cycle.get().getTranslatableName() : profile.cycleKeyName()));
+		});
+		
+		return 1;
+	}
+	private int useProfile(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final String langCmd = "jugglestruggle.tcs.cmd.profile.";
+		final String profileName = StringArgumentType.getString(ctx, "name");
+		
+		final CycleProfiles profiles = TimeChangerStruggleClient.config.getProfiles();
+		final Optional<CycleProfiles.Profile> profile = profiles.getProfile(profileName);
+		
+		if (!profile.isPresent())
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				langCmd + "error.notexist", profileName
+			);
+			
+			return 0;
+		}
+		
+		if (profiles.applyProfile(profile.get()) == null)
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				langCmd + "error.cyclenotexist", profile.get().cycleKeyName(), profileName
+			);
+			
+			return 0;
+		}
+		
+		Commands.cycleSetAndWeNeedToKnowIfWeCanDisableWorldTime();
+		
+		TimeChangerStruggleClient.config.writeIfModified();
+		
+		if (TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant)
+		{
+			final Optional<DayNightCycleBuilder> cycle = TimeChangerStruggleClient.getCurrentCycleBuilder();
+			
+			MutableText cycleText = new TranslatableText("jugglestruggle.tcs.cmd.cycle.cycle", 
+				cycle.isPresent() ? cycle.get().getTranslatableName() : "??");
+			
+			cycleText.styled(style -> style.withColor(0xFFFF22));
+			
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0x22FF22).withBold(true),
+				langCmd + "use.success", profileName, cycleText
+			);
+		}
+		
+		return 1;
+	}
+	private int saveProfile(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final String langCmd = "jugglestruggle.tcs.cmd.profile.";
+		final String profileName = StringArgumentType.getString(ctx, "name");
+		
+		final Optional<DayNightCycleBuilder> cycle = TimeChangerStruggleClient.getCurrentCycleBuilder();
+		
+		if (!cycle.isPresent())
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				"jugglestruggle.tcs.cmd.cycle.remove.use.error"
+			);
+			
+			return 0;
+		}
+		
+		// These would otherwise be taken as the subcommands rather than the profile
+		final String lowerCaseName = profileName.toLowerCase(Locale.ROOT);
+		
+		if (lowerCaseName.equals("save") || lowerCaseName.equals("remove"))
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				langCmd + "save.error.reserved", profileName
+			);
+			
+			return 0;
+		}
+		
+		TimeChangerStruggleClient.config.getProfiles().saveProfile
+			(profileName, cycle.get().getKeyName(), TimeChangerStruggleClient.getTimeChanger());
+		
+		Commands.sendTextToChat
+		(
+			ctx, style -> style.withColor(0x22FF22).withBold(true),
+			langCmd + "save", cycle.get().getTranslatableName(), profileName
+		);
+		
+		return 1;
+	}
+	private int removeProfile(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final String langCmd = "jugglestruggle.tcs.cmd.profile.";
+		final String profileName = StringArgumentType.getString(ctx, "name");
+		
+		if (!TimeChangerStruggleClient.config.getProfiles().removeProfile(profileName))
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				langCmd + "error.notexist", profileName
+			);
+			
+			return 0;
+		}
+		
+		Commands.sendTextToChat
+		(
+			ctx, style -> style.withColor(0x22FF22).withBold(true),
+			langCmd + "remove", profileName
+		);
+		
+		return 1;
+	}
+	
+	private LiteralArgumentBuilder<FabricClientCommandSource> generateDebugSubcommand()
+	{
+		return ClientCommandManager.literal("debug")
+			.then
+			(
+				ClientCommandManager.literal("skyangle").executes(ctx ->
+				{
+					Commands.sendTextToChat
+					(
+						ctx, "jugglestruggle.tcs.cmd.debug.skyangle", 
+						SkyAngleCache.getHits(), SkyAngleCache.getMisses(),
+						String.format(Locale.ROOT, "%.2f%%", SkyAngleCache.getHitRate() * 100.0)
+					);
+					
+					SkyAngleCache.resetCounters();
+					
+					return 1;
+				})
+			)
+			.then
+			(
+				ClientCommandManager.literal("easings").executes(ctx ->
+				{
+					final Map<String, Double> errors = EasingTable.computeMaxErrors(EasingTable.getResolution(), 16);
+					
+					String worstCurve = null;
+					double worstError = 0.0;
+					
+					for (Map.Entry<String, Double> error : errors.entrySet())
+					{
+						TimeChangerStruggle.LOGGER.info("Easing lookup table error for {}: {}", error.getKey(), error.getValue());
+						
+						if (worstCurve == null || error.getValue() > worstError) {
+							worstCurve = error.getKey(); worstError = error.getValue();
+						}
+					}
+					
+					Commands.sendTextToChat
+					(
+						ctx, "jugglestruggle.tcs.cmd.debug.easings", 
+						EasingTable.getResolution(), worstCurve, 
+						String.format(Locale.ROOT, "%.6f", worstError)
+					);
+					
+					return 1;
+				})
+			)
+			.then
+			(
+				ClientCommandManager.literal("configwrites").executes(ctx ->
+				{
+					Commands.sendTextToChat
+					(
+						ctx, "jugglestruggle.tcs.cmd.debug.configwrites", 
+						TimeChangerStruggleClient.config.getWritesPerformed(), 
+						TimeChangerStruggleClient.config.getWritesSkipped()
+					);
+					
+					return 1;
+				})
+			)
+			.then
+			(
+				ClientCommandManager.literal("simulate").then
+				(
+					// The simulation runs on the client thread, so keep it short enough to not freeze the game
+					ClientCommandManager.argument("ticks", IntegerArgumentType.integer(1, 100_000))
+					.executes(this::simulateCurrentCycle)
+				)
+			)
+			.then(this.generateOptionSubcommandBoolAction
+			(
+				"offThreadTimeCalls", 
+				new TranslatableText("jugglestruggle.tcs.cmd.debug.offthreadtimecalls"), 
+				() -> OffThreadTimeCalls.enabled, 
+				currentValue -> 
+				{
+					if (!currentValue)
+						OffThreadTimeCalls.logAndReset();
+					
+					return OffThreadTimeCalls.enabled = currentValue;
+				}
+			));
+	}
+	
+	private int simulateCurrentCycle(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final Optional<DayNightCycleBuilder> builder = TimeChangerStruggleClient.getCurrentCycleBuilder();
+		
+		if (!builder.isPresent())
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				"jugglestruggle.tcs.cmd.cycle.remove.use.error"
+			);
+			
+			return 0;
+		}
+		
+		// Simulate a separate cycle using the same options as the current one so 
+		// that the one in use is left untouched
+		final DayNightCycleBasis cycle = builder.get().create();
+		TimeChangerStruggleClient.config.applyStoredCycleValues(cycle);
+		
+		final SimulatedCycleEnvironment environment = SimulatedCycleEnvironment.startingNow
+		(
+			ClientCycleEnvironment.INSTANCE.getCameraY(), 
+			ClientCycleEnvironment.INSTANCE.getWorldTimeOfDay()
+		);
+		
+		// Only the first and the last times are shown
+		final CycleSimulator.Result result = CycleSimulator.run(cycle, environment, IntegerArgumentType.getInteger(ctx, "ticks"), false);
+		
+		Commands.sendTextToChat
+		(
+			ctx, "jugglestruggle.tcs.cmd.debug.simulate", 
+			result.getTicks(), builder.get().getTranslatableName(),
+			String.format(Locale.ROOT, "%.2f", result.getNanosPerTick()),
+			Double.isNaN(result.getBytesPerTick()) ? "??" : String.format(Locale.ROOT, "%.2f", result.getBytesPerTick()),
+			result.firstTime, result.lastTime
+		);
+		
+		return 1;
+	}
+	
+	private int seekCurrentCycle(CommandContext<FabricClientCommandSource> ctx)
+	{
+		final DayNightCycleBasis cycle = TimeChangerStruggleClient.getTimeChanger();
+		final Optional<DayNightCycleBuilder> builder = TimeChangerStruggleClient.getCurrentCycleBuilder();
+		
+		if (cycle == null || !builder.isPresent())
+		{
+			Commands.sendTextToChat
+			(
+				ctx, style -> style.withColor(0xFF2222).withBold(true),
+				"jugglestruggle.tcs.cmd.cycle.remove.use.error"
+			);
+			
+			return 0;
+		}
+		
+		final long ticks = LongArgumentType.getLong(ctx, "ticks");
+		
+		cycle.seek(ticks);
+		
+		Commands.sendTextToChat
+		(
+			ctx, "jugglestruggle.tcs.cmd.seek", 
+			builder.get().getTranslatableName(), ticks, cycle.getCachedTime()
+		);
+		
+		return 1;
+	}
+	
 	private LiteralArgumentBuilder<FabricClientCommandSource> generateOptionSubcommandBoolAction
 	(String subcommandName, Text displayName, BooleanSupplier suppliedValue, UnaryOperator<Boolean> onApplyConsumer)
 	{
@@ -2,11 +2,18 @@ package jugglestruggle.timechangerstruggle.client;
 
 import jugglestruggle.timechangerstruggle.TimeChangerStruggle;
 import jugglestruggle.timechangerstruggle.client.screen.TimeChangerScreen;
+import jugglestruggle.timechangerstruggle.client.util.debug.OffThreadTimeCalls;
 import jugglestruggle.timechangerstruggle.client.util.render.RainbowShader;
 import jugglestruggle.timechangerstruggle.client.util.render.RenderUtils;
 import jugglestruggle.timechangerstruggle.config.Configuration;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleEntrypoint;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleRegistry;
+import jugglestruggle.timechangerstruggle.daynight.DayNightTimeSnapshot;
+import jugglestruggle.timechangerstruggle.daynight.LazyDayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.type.KeyframeTime;
+import jugglestruggle.timechangerstruggle.daynight.type.LayeredTime;
 import jugglestruggle.timechangerstruggle.daynight.type.LowToHighHeightTime;
 import jugglestruggle.timechangerstruggle.daynight.type.MovingTime;
 import jugglestruggle.timechangerstruggle.daynight.type.RandomizedTime;
@@ -19,12 +26,11 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
 
 import java.io.File;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import net.minecraft.client.MinecraftClient;
@@ -44,10 +50,11 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	 * A cached list of day cycle builders which are primarily used
 	 * to load their corresponding day cycle type. 
 	 * 
-	 * <p> This is a linked hashmap to keep things ordered from when
-	 * they were first added.
+	 * <p> They are kept ordered from when they were first added and 
+	 * indexed by their keys, classes and positions so that finding a
+	 * builder or the one next to it does not depend on how many there are.
 	 */
-	private static final Map<String, DayNightCycleBuilder> CYCLE_BUILDERS;
+	private static final DayNightCycleRegistry CYCLE_BUILDERS;
 	/**
 	 * Uses the client world's time. 
 	 * 
@@ -57,7 +64,7 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	 * @see {@linkplain ClientWorldMixin Client World Mixin} 
 	 * where almost all of the calls are overriden
 	 */
-	public static boolean worldTime = true;
+	public static volatile boolean worldTime = true;
 	/**
 	 * Shows the user the date rather than ticks, which the game uses
 	 * ticks for its daylight cycle.
@@ -101,27 +108,25 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	/**
 	 * Used instead of an enumerator to avoid being locked to specific
 	 * day-night cycles if locks were to ever be defined by the mod.
+	 * 
+	 * <p> This is the cycle of the world that the client is in; every world
+	 * has its own which is kept in {@link #WORLD_CYCLES}. Before any world is
+	 * loaded it is a cycle of no world, which the first world takes as its own.
+	 * 
+	 * <p> The cycle is owned by the client (render) thread; it is the only
+	 * thread that ticks it, modifies it or asks it for its times. Any other
+	 * thread must read the world's {@link DayNightTimeSnapshot} instead.
 	 */
-	private static DayNightCycleBasis timeChanger = null;
-	/**
-	 * Used as a "key" for {@link #CYCLE_BUILDERS}.
-	 */
-	private static String timeChangerKey = null;
+	private static volatile DayNightCycleBasis timeChanger = null;
 	/**
-	 * Used as a "key" to get the first item on the map.
-	 * 
-	 * @see TimeChangerStruggleClient#timeChangerKey
-	 * @see TimeChangerStruggleClient#timeChangerKeyLast
+	 * The cycles of every world that was visited, by server, dimension and 
+	 * cycle type.
 	 */
-	private static String timeChangerKeyFirst = null;
+	private static final WorldCycles WORLD_CYCLES = new WorldCycles();
 	/**
-	 * Used as a "key" to get the last item on the map. Usually this
-	 * is the recently added item into the builder cache.
-	 * 
-	 * @see TimeChangerStruggleClient#timeChangerKey
-	 * @see TimeChangerStruggleClient#timeChangerKeyFirst
+	 * Used as a "key" for {@link #CYCLE_BUILDERS}.
 	 */
-	private static String timeChangerKeyLast = null;
+	private static String timeChangerKey = null;
 	/**
 	 * Tell the user client-sided about the changes that was made in
 	 * the command. This only affects command actions that aren't too
@@ -145,30 +150,47 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	
 	static
 	{
-		// Add default day/night cycle builders for use
-		CYCLE_BUILDERS = new LinkedHashMap<>(5);
+		// Add default day/night cycle builders for use; only what describes them
+		// is made here so that the cycles themselves are not loaded until used
+		CYCLE_BUILDERS = new DayNightCycleRegistry(7);
 		
-		TimeChangerStruggleClient.registerCycleBuilder(new SystemTime.Builder());
-		TimeChangerStruggleClient.registerCycleBuilder(new StaticTime.Builder());
-		TimeChangerStruggleClient.registerCycleBuilder(new MovingTime.Builder());
-		TimeChangerStruggleClient.registerCycleBuilder(new RandomizedTime.Builder());
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("systemtime", "jugglestruggle.tcs.dnt.systemtime", false, () -> new SystemTime.Builder()));
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("statictime", "jugglestruggle.tcs.dnt.statictime", true, () -> new StaticTime.Builder()));
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("movingtime", "jugglestruggle.tcs.dnt.movingtime", true, () -> new MovingTime.Builder()));
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("randomizers", "jugglestruggle.tcs.dnt.randomizer", true, () -> new RandomizedTime.Builder()));
 		// TimeChangerStruggleClient.registerCycleBuilder(new ShrugTime.Builder()); (will not be used in initial release since it does nothing)
-		TimeChangerStruggleClient.registerCycleBuilder(new LowToHighHeightTime.Builder());
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("lowtohighheighttime", "jugglestruggle.tcs.dnt.lowtohighheighttime", true, () -> new LowToHighHeightTime.Builder()));
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("keyframetime", "jugglestruggle.tcs.dnt.keyframetime", true, () -> new KeyframeTime.Builder()));
+		TimeChangerStruggleClient.registerCycleBuilder(new LazyDayNightCycleBuilder
+			("layeredtime", "jugglestruggle.tcs.dnt.layeredtime", true, () -> new LayeredTime.Builder()));
 	}
 	
-	public static <B extends DayNightCycleBuilder> void registerCycleBuilder(B builder)
+	public static <B extends DayNightCycleBuilder> void registerCycleBuilder(B builder) {
+		TimeChangerStruggleClient.CYCLE_BUILDERS.register(builder);
+	}
+	/**
+	 * Registers the cycles of every mod which has a 
+	 * {@value DayNightCycleEntrypoint#KEY} entrypoint. A mod that fails to
+	 * do so does not stop the others from registering theirs.
+	 */
+	private static void registerEntrypointCycleBuilders()
 	{
-		String key = builder.getKeyName();
-		
-		if (TimeChangerStruggleClient.CYCLE_BUILDERS.containsKey(key))
-			return;
-		
-		if (TimeChangerStruggleClient.timeChangerKeyFirst == null)
-			TimeChangerStruggleClient.timeChangerKeyFirst = key;
-		
-		TimeChangerStruggleClient.timeChangerKeyLast = key;
-			
-		TimeChangerStruggleClient.CYCLE_BUILDERS.put(key, builder);
+		for (EntrypointContainer<DayNightCycleEntrypoint> entrypoint : FabricLoader.getInstance()
+			.getEntrypointContainers(DayNightCycleEntrypoint.KEY, DayNightCycleEntrypoint.class))
+		{
+			try {
+				entrypoint.getEntrypoint().registerCycles(TimeChangerStruggleClient.CYCLE_BUILDERS);
+			} catch (Exception | LinkageError e) {
+				TimeChangerStruggle.LOGGER.error("Failed to register the cycles of {}", 
+					entrypoint.getProvider().getMetadata().getId(), e);
+			}
+		}
 	}
 	
 
@@ -182,30 +204,162 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	public static final String getTimeChangerKey() {
 		return TimeChangerStruggleClient.timeChangerKey;
 	}
+	/**
+	 * Uses the cycle in the world that the client is in, replacing the
+	 * world's cycle of the same type.
+	 * 
+	 * @param timeToChange the cycle to use; {@code null} for none
+	 */
 	public static final void setTimeChanger(DayNightCycleBasis timeToChange) 
 	{
 		TimeChangerStruggleClient.timeChanger = timeToChange;
 		
-		Optional<DayNightCycleBuilder> cachedCycleBuilder = (timeToChange == null) ? Optional.empty() :
-			TimeChangerStruggleClient.getCachedCycleBuilderByClass(timeToChange.getBuilderClass());
+		final DayNightCycleBuilder cachedCycleBuilder = (timeToChange == null) ? null :
+			TimeChangerStruggleClient.CYCLE_BUILDERS.getByBuilderClass(timeToChange.getBuilderClass());
 		
-		TimeChangerStruggleClient.timeChangerKey = cachedCycleBuilder.isPresent() ? 
-			cachedCycleBuilder.get().getKeyName() : null;
+		TimeChangerStruggleClient.timeChangerKey = (cachedCycleBuilder == null) ? 
+			null : cachedCycleBuilder.getKeyName();
+		
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		if (client != null && client.world != null)
+		{
+			if (timeToChange != null && TimeChangerStruggleClient.timeChangerKey != null)
+			{
+				TimeChangerStruggleClient.WORLD_CYCLES.put(WorldCycles.Key.of(client, client.world, 
+					TimeChangerStruggleClient.timeChangerKey), timeToChange);
+			}
+			
+			((WorldCycles.Holder)client.world).tcs_setCycle(timeToChange);
+		}
+		
+		TimeChangerStruggleClient.republishTimeSnapshot();
 	}
+	/**
+	 * Uses the cycle type in the world that the client is in; the world's
+	 * cycle of that type is carried on with if it has one. The stored 
+	 * properties that differ from the cycle's are written to it.
+	 * 
+	 * @param cycleType the key name of the cycle's builder
+	 */
 	public static final void setTimeChanger(String cycleType) 
 	{
-		if (!TimeChangerStruggleClient.cachedCycleTypeExists(cycleType)) {
+		final DayNightCycleBuilder cachedCycleBuilder = TimeChangerStruggleClient.CYCLE_BUILDERS.get(cycleType);
+		
+		if (cachedCycleBuilder == null) {
 			return;
 		}
 		
-		TimeChangerStruggleClient.timeChanger = TimeChangerStruggleClient.CYCLE_BUILDERS.get(cycleType).create();
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		if (client != null && client.world != null)
+		{
+			TimeChangerStruggleClient.timeChanger = TimeChangerStruggleClient.WORLD_CYCLES.getOrCreate
+				(WorldCycles.Key.of(client, client.world, cycleType), cachedCycleBuilder::create);
+			
+			((WorldCycles.Holder)client.world).tcs_setCycle(TimeChangerStruggleClient.timeChanger);
+		}
+		else
+			TimeChangerStruggleClient.timeChanger = cachedCycleBuilder.create();
+		
 		TimeChangerStruggleClient.timeChangerKey = cycleType;
+		TimeChangerStruggleClient.applyStoredValues(TimeChangerStruggleClient.timeChanger);
+		
+		TimeChangerStruggleClient.republishTimeSnapshot();
+	}
+	/**
+	 * Gives the world that was just made its own cycle of the type in use,
+	 * carrying on with the one that it had when it was last visited. The 
+	 * cycle is kept on the world so that it never has to be looked up again
+	 * while the world exists.
+	 * 
+	 * <p> The stored properties may have been changed while in another 
+	 * world, so those that differ from the cycle's are written to it.
+	 * 
+	 * @param world the world that was made; it is about to become the 
+	 * client's world
+	 */
+	public static final void resolveWorldCycle(ClientWorld world)
+	{
+		final String cycleKey = TimeChangerStruggleClient.timeChangerKey;
+		final DayNightCycleBuilder builder = TimeChangerStruggleClient.CYCLE_BUILDERS.get(cycleKey);
+		
+		DayNightCycleBasis cycle = null;
+		
+		if (builder != null)
+		{
+			// The cycle which was made before there was any world (like the one
+			// from the config) is taken by the first world
+			final DayNightCycleBasis worldlessCycle = TimeChangerStruggleClient.timeChanger;
+			final WorldCycles.Key key = WorldCycles.Key.of(MinecraftClient.getInstance(), world, cycleKey);
+			
+			cycle = TimeChangerStruggleClient.WORLD_CYCLES.get(key);
+			
+			if (cycle == null)
+			{
+				cycle = (worldlessCycle != null && !TimeChangerStruggleClient.WORLD_CYCLES.containsCycle(worldlessCycle)) ?
+					worldlessCycle : builder.create();
+				
+				TimeChangerStruggleClient.WORLD_CYCLES.put(key, cycle);
+			}
+			
+			TimeChangerStruggleClient.applyStoredValues(cycle);
+		}
+		
+		((WorldCycles.Holder)world).tcs_setCycle(cycle);
+		
+		TimeChangerStruggleClient.timeChanger = cycle;
+		TimeChangerStruggleClient.publishTimeSnapshot(world);
+	}
+	/**
+	 * Writes the stored properties that differ from the cycle's own to it,
+	 * in one batch; nothing is written if they are all the same. Left for
+	 * the configuration to do itself while it is being read.
+	 */
+	private static void applyStoredValues(DayNightCycleBasis cycle)
+	{
+		if (TimeChangerStruggleClient.config != null && !TimeChangerStruggleClient.config.isReading())
+			TimeChangerStruggleClient.config.createOrModifyDaylightCycleConfig(cycle, false);
 	}
 	public static final boolean useWorldTime() {
 		return TimeChangerStruggleClient.worldTime || TimeChangerStruggleClient.timeChanger == null;
 	}
+	/**
+	 * Captures the world's cycle's times and publishes them for the 
+	 * world's getters to use until the next call.
+	 * 
+	 * <p> Calls made outside of the client thread are ignored as the cycle
+	 * is not safe to read from there; the next tick publishes it anyway.
+	 * 
+	 * @param world the world to capture the times for; if {@code null}
+	 * then nothing is published until a world exists
+	 */
+	public static final void publishTimeSnapshot(ClientWorld world)
+	{
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		// The client does not exist when the classes are used outside of the game
+		// (like in the benchmarks), which is not a problem since nothing renders
+		if (client == null || !client.isOnThread())
+			return;
+		
+		if (world == null)
+			return;
+		
+		final WorldCycles.Holder worldCycles = (WorldCycles.Holder)world;
+		final DayNightCycleBasis cycle = worldCycles.tcs_getCycle();
+		
+		worldCycles.tcs_setTimeSnapshot((cycle == null) ? null : DayNightTimeSnapshot.capture(cycle, world));
+	}
+	private static void republishTimeSnapshot()
+	{
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		if (client != null)
+			TimeChangerStruggleClient.publishTimeSnapshot(client.world);
+	}
 	public static final Collection<DayNightCycleBuilder> getCachedCycleTypeBuilders() {
-		return TimeChangerStruggleClient.CYCLE_BUILDERS.values();
+		return TimeChangerStruggleClient.CYCLE_BUILDERS.getBuilders();
 	}
 	public static final int getCachedCycleTypeSize() {
 		return TimeChangerStruggleClient.CYCLE_BUILDERS.size();
@@ -213,67 +367,26 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	public static final boolean cachedCycleTypeExists(String cycleTypeToCheck) 
 	{
 		return cycleTypeToCheck != null && !cycleTypeToCheck.isEmpty() &&
-			TimeChangerStruggleClient.CYCLE_BUILDERS.containsKey(cycleTypeToCheck);
+			TimeChangerStruggleClient.CYCLE_BUILDERS.contains(cycleTypeToCheck);
 	}
 	public static final void quickSwitchCachedCycleType(boolean backwards)
 	{
-		// if our key is empty, just pick the first or last item in the map
-		if (TimeChangerStruggleClient.timeChangerKey == null) 
-		{
-			if (backwards) {
-				TimeChangerStruggleClient.setTimeChanger(TimeChangerStruggleClient.timeChangerKeyLast);
-			} else {
-				TimeChangerStruggleClient.setTimeChanger(TimeChangerStruggleClient.timeChangerKeyFirst);
-			}
-		}
-		// Else, just get us a way to go for previous/next depending on our key index
-		else
-		{
-			Iterator<String> cycleKeys = TimeChangerStruggleClient.CYCLE_BUILDERS.keySet().iterator();
-			
-			String previousKey = null;
-			
-			while (cycleKeys.hasNext())
-			{
-				String key = cycleKeys.next();
-				
-				if (TimeChangerStruggleClient.timeChangerKey.equals(key))
-				{
-					if (backwards)
-					{
-						TimeChangerStruggleClient.setTimeChanger((previousKey == null) ? 
-							TimeChangerStruggleClient.timeChangerKeyLast : previousKey);
-					}
-					else
-					{
-						TimeChangerStruggleClient.setTimeChanger(cycleKeys.hasNext() ? 
-							cycleKeys.next() : TimeChangerStruggleClient.timeChangerKeyFirst);
-					}
-					
-					break;
-				}
-				else
-				{
-					previousKey = key;
-				}
-			}
-		}
+		// If our key is empty, the registry gives us the first or last item; else
+		// it gives us the previous/next one depending on our key's index
+		final DayNightCycleBuilder builder = backwards ?
+			TimeChangerStruggleClient.CYCLE_BUILDERS.previous(TimeChangerStruggleClient.timeChangerKey) :
+			TimeChangerStruggleClient.CYCLE_BUILDERS.next(TimeChangerStruggleClient.timeChangerKey);
+		
+		if (builder != null)
+			TimeChangerStruggleClient.setTimeChanger(builder.getKeyName());
 	}
-	public static final Optional<DayNightCycleBuilder> getCachedCycleBuilderByClass(Class<?> builderClass) 
+	public static final Optional<DayNightCycleBuilder> getCachedCycleBuilderByClass(Class<?> builderClass) {
+		return Optional.ofNullable(TimeChangerStruggleClient.CYCLE_BUILDERS.getByBuilderClass(builderClass));
+	}
+	public static final Optional<DayNightCycleBuilder> getCachedCycleBuilderByKey(String cycleType) 
 	{
-		if (builderClass != null)
-		{
-			Class<?>[] builderClassInterfaces = builderClass.getInterfaces();
-			
-			if (builderClassInterfaces != null && builderClassInterfaces.length == 1 && 
-				DayNightCycleBuilder.class.equals(builderClassInterfaces[0]))
-			{
-				return TimeChangerStruggleClient.CYCLE_BUILDERS.values().stream()
-					.filter(b -> { return builderClass.equals(b.getClass()); }).findFirst();
-			}
-		}
-		
-		return Optional.empty();
+		return (cycleType == null) ? Optional.empty() : 
+			Optional.ofNullable(TimeChangerStruggleClient.CYCLE_BUILDERS.get(cycleType));
 	}
 	/**
 	 * Returns the current cycle's builder class if there are any.
@@ -324,6 +437,9 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 		config = new File(config, "DaylightChangerStruggle.json");
 		TimeChangerStruggleClient.config = new Configuration(config);
 		
+		// Add the cycles of other mods before anything goes through them
+		TimeChangerStruggleClient.registerEntrypointCycleBuilders();
+		
 		// Then create the commands...
 		TimeChangerStruggleClient.commands = new Commands();
 		TimeChangerStruggleClient.commands.registerCommands();
@@ -331,10 +447,12 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 		// Add fabric events for use in creating a shader, keyboard detection 
 		// and in ticking the cycle types
 		ClientLifecycleEvents.CLIENT_STARTED.register(this::onClientStart);
+		ClientLifecycleEvents.CLIENT_STOPPING.register(this::onClientStopping);
 		ClientTickEvents.END_CLIENT_TICK.register(this::onClientTick);
 		ClientTickEvents.END_WORLD_TICK.register(this::onWorldTick);
 		
-		// Then read the configs
+		// Then read the configs; this uses the binary snapshot next to them if
+		// they have not changed since it was made, otherwise the JSON files
 		TimeChangerStruggleClient.config.read();
 	}
 	
@@ -353,6 +471,13 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 		
 	}
 	
+	private void onClientStopping(MinecraftClient client)
+	{
+		// Configs are written in the background after a short while, so be sure
+		// that the last changes made it to the disk
+		TimeChangerStruggleClient.config.flush();
+	}
+	
 	private void onClientTick(MinecraftClient client)
 	{
 		// TODO: Is there a better way to call key events on press and releases without the need of ticking?
@@ -369,6 +494,14 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 			}
 		}
 		
+		// World ticks are not called while the game is paused, but the cycle's
+		// properties can still be changed through the screen so keep on publishing
+		if (client.isPaused() && client.world != null) {
+			TimeChangerStruggleClient.publishTimeSnapshot(client.world);
+		}
+		
+		OffThreadTimeCalls.tick();
+		
 		/*
 		boolean isTCS = (client.currentScreen instanceof TimeChangerScreen);
 		if (RenderUtils.rainbowAllTheWay != null && isTCS)
@@ -386,9 +519,12 @@ public class TimeChangerStruggleClient implements ClientModInitializer
 	}
 	private void onWorldTick(ClientWorld world)
 	{
-		if (TimeChangerStruggleClient.useWorldTime())
+		final DayNightCycleBasis cycle = ((WorldCycles.Holder)world).tcs_getCycle();
+		
+		if (TimeChangerStruggleClient.worldTime || cycle == null)
 			return;
 		
-		TimeChangerStruggleClient.timeChanger.tick();
+		cycle.tick();
+		TimeChangerStruggleClient.publishTimeSnapshot(world);
 	}
 }
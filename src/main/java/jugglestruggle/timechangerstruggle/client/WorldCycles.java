@@ -0,0 +1,153 @@
+package jugglestruggle.timechangerstruggle.client;
+
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightTimeSnapshot;
+import jugglestruggle.timechangerstruggle.mixin.client.world.ClientWorldMixin;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import net.minecraft.client.network.ServerInfo;
+import net.minecraft.server.integrated.IntegratedServer;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+
+/**
+ * The live cycles of every world that was visited, so that each dimension
+ * of each server keeps on going from where it was left off rather than
+ * sharing one cycle with every other world.
+ *
+ * <p> The cycle of a world is only looked up when the world is loaded or
+ * when the cycle in use changes; it is then kept on the world itself
+ * through {@link Holder}. Only the {@link #MAX_CYCLES} most recently
+ * looked up cycles are kept.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class WorldCycles
+{
+	/**
+	 * How many cycles are kept at most; once there are more, the one that
+	 * was looked up the longest time ago is let go of and its world starts
+	 * over if it is visited again.
+	 */
+	public static final int MAX_CYCLES = 32;
+
+	private final Map<Key, DayNightCycleBasis> cycles = new LinkedHashMap<>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, DayNightCycleBasis> eldest) {
+			return this.size() > WorldCycles.MAX_CYCLES;
+		}
+	};
+
+	/**
+	 * Gets the cycle of the world.
+	 *
+	 * @param key the world and the cycle type
+	 * @return the world's cycle; {@code null} if it does not have one of
+	 * the same cycle type yet
+	 */
+	public DayNightCycleBasis get(Key key) {
+		return this.cycles.get(key);
+	}
+	/**
+	 * Gets the cycle of the world, making it if the world does not have
+	 * one of the same cycle type yet.
+	 *
+	 * @param key the world and the cycle type
+	 * @param cycleMaker makes the cycle if there is none
+	 *
+	 * @return the world's cycle
+	 */
+	public DayNightCycleBasis getOrCreate(Key key, Supplier<DayNightCycleBasis> cycleMaker) {
+		return this.cycles.computeIfAbsent(key, k -> cycleMaker.get());
+	}
+	public void put(Key key, DayNightCycleBasis cycle) {
+		this.cycles.put(key, cycle);
+	}
+	/**
+	 * Checks whether the cycle is the cycle of any of the worlds.
+	 *
+	 * @param cycle the cycle to look for
+	 * @return {@code true} if a world has this exact cycle
+	 */
+	public boolean containsCycle(DayNightCycleBasis cycle)
+	{
+		for (DayNightCycleBasis worldCycle : this.cycles.values())
+		{
+			if (worldCycle == cycle)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Identifies a cycle of a dimension of a server.
+	 *
+	 * @param server the address of the server or the name of the singleplayer
+	 * world; empty if neither is known
+	 * @param dimension the dimension of the world
+	 * @param cycleKey the key name of the cycle's builder
+	 */
+	public static record Key(String server, RegistryKey<World> dimension, String cycleKey)
+	{
+		public static Key of(MinecraftClient client, ClientWorld world, String cycleKey) {
+			return new Key(WorldCycles.getServerName(client), world.getRegistryKey(), cycleKey);
+		}
+	}
+
+	/**
+	 * Gets what identifies the server that the client is playing on.
+	 *
+	 * @param client the client
+	 * @return the server's address, the singleplayer world's name prefixed
+	 * with {@code "singleplayer/"} or an empty string if neither is known
+	 */
+	public static String getServerName(MinecraftClient client)
+	{
+		final ServerInfo serverEntry = client.getCurrentServerEntry();
+
+		if (serverEntry != null)
+			return serverEntry.address;
+
+		final IntegratedServer server = client.getServer();
+
+		if (server != null)
+			return "singleplayer/" + server.getSaveProperties().getLevelName();
+
+		return "";
+	}
+
+	/**
+	 * Implemented onto {@link ClientWorld} by {@link ClientWorldMixin} to
+	 * keep the world's cycle and the times it last published.
+	 */
+	public static interface Holder
+	{
+		/**
+		 * @return the cycle of the world; {@code null} if it has none
+		 */
+		DayNightCycleBasis tcs_getCycle();
+		void tcs_setCycle(DayNightCycleBasis cycle);
+
+		/**
+		 * @return the times that the world's cycle published on its last
+		 * tick; {@code null} if there are none
+		 */
+		DayNightTimeSnapshot tcs_getTimeSnapshot();
+		void tcs_setTimeSnapshot(DayNightTimeSnapshot snapshot);
+	}
+}
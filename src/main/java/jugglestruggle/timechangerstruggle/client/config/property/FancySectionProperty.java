@@ -8,9 +8,13 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.io.IOException;
+
 import net.minecraft.text.Text;
 
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 
@@ -51,6 +55,13 @@ public class FancySectionProperty extends BaseProperty<FancySectionProperty, Tex
 	public JsonElement writeToJson() {
 		return null;
 	}
+	
+	@Override
+	public void readFromJson(JsonReader reader) throws IOException {
+		reader.skipValue();
+	}
+	@Override
+	public void writeToJson(JsonWriter writer) {}
 
 	@Override
 	public ArgumentType<Text> onCommandOptionGetArgType() {
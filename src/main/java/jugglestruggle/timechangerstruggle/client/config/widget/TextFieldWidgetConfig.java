@@ -43,6 +43,8 @@ implements WidgetConfigInterface<StringValue, String>, PositionedTooltip
 		this.allowEmptyText = allowEmptyText;
 		this.initialText = property.get();
 		
+		// Set before the text as it would otherwise be cut short
+		this.setMaxLength(property.getMaxLength());
 		this.setText(this.initialText);
 		this.setChangedListener(null);
 		
@@ -7,6 +7,7 @@ import jugglestruggle.timechangerstruggle.client.config.widget.WidgetConfigInter
 import jugglestruggle.timechangerstruggle.client.widget.ButtonWidgetEx;
 import jugglestruggle.timechangerstruggle.client.widget.CyclingButtonWidgetEx;
 import jugglestruggle.timechangerstruggle.client.widget.SelfWidgetRendererInheritor;
+import jugglestruggle.timechangerstruggle.config.CycleProfiles;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
@@ -101,6 +102,12 @@ public class TimeChangerScreen extends Screen
 	 * property updates using the active daylight cycle.
 	 */
 	private Boolean mainMenu_saveCurrentOption = null;
+	/**
+	 * The last time text rendered on the main menu and its width, which is 
+	 * only measured again once the text is a different one.
+	 */
+	private String mainMenu_parsedTime = null;
+	private int mainMenu_parsedTimeWidth;
 	
 	/**
 	 * As the name suggests, whenever the menu is on the daylight cycle, avoid
@@ -225,8 +232,11 @@ public class TimeChangerScreen extends Screen
 						this.textRenderer, this::mainMenu_quickSwitchDaylightCycleType));
 
 					
-					// Configuration (not used yet as of version 0.0.0)
-					elements.add(new ButtonWidget(0, 0, 0, 0, LiteralText.EMPTY, btn -> {}));
+					// Profiles
+					elements.add(new ButtonWidgetEx(20, 20, new LiteralText("\u2630"), 
+						this.mainMenu_getButtonWidgetTooltipFirstLine_profile(),
+						new TranslatableText("jugglestruggle.tcs.screen.profile.desc"),
+						this.textRenderer, this::mainMenu_switchProfile));
 					
 					this.mainMenu_createQuickOptionElements(elements);
 					
@@ -265,9 +275,8 @@ public class TimeChangerScreen extends Screen
 					
 					if (propListOnly)
 					{
-						if (!cycleChangerExists || 
-							!this.switchDaylightCycleMenu_propertiesListBuilder.getClass().equals(
-							cycleBasis.getBuilderClass()))
+						if (!cycleChangerExists || !TimeChangerScreen.isCycleOfBuilder(
+							cycleBasis, this.switchDaylightCycleMenu_propertiesListBuilder))
 						{
 							cycleBasis = this.switchDaylightCycleMenu_propertiesListBuilder.create();
 							TimeChangerStruggleClient.config.createOrModifyDaylightCycleConfig(cycleBasis, false);
@@ -362,8 +371,10 @@ public class TimeChangerScreen extends Screen
 				pw = (ClickableWidget)elements.get(4); // Quick-Switch Getter Type
 				pw.x = xR + 152 ; pw.y = y2;
 				
-				pw = (ClickableWidget)elements.get(5); // Settings
-				pw.visible = false; pw.active = false;
+				pw = (ClickableWidget)elements.get(5); // Profiles
+				pw.x = xL - 22; pw.y = y2;
+				pw.active = TimeChangerStruggleClient.getTimeChangerKey() != null && !TimeChangerStruggleClient.config
+					.getProfiles().getProfilesOfCycle(TimeChangerStruggleClient.getTimeChangerKey()).isEmpty();
 				
 				final int quickOptionElementsSize = elements.size() - 6;
 				final boolean anyQuickOptionElements = quickOptionElementsSize > 0;
@@ -679,7 +690,15 @@ public class TimeChangerScreen extends Screen
 				{
 					String parsedTime = DaylightUtils.getParsedTime(this.client.world, TimeChangerStruggleClient.dateOverTicks);
 					
-					int textWidth = this.textRenderer.getWidth(parsedTime);
+					// The same instance is given back until the time changes, so only
+					// measure it whenever that happens
+					if (parsedTime != this.mainMenu_parsedTime)
+					{
+						this.mainMenu_parsedTime = parsedTime;
+						this.mainMenu_parsedTimeWidth = this.textRenderer.getWidth(parsedTime);
+					}
+					
+					int textWidth = this.mainMenu_parsedTimeWidth;
 					
 					int x = this.width / 2;
 					int y = this.height - 86;
@@ -918,12 +937,58 @@ public class TimeChangerScreen extends Screen
 	}
 	private void mainMenu_quickSwitchDaylightCycleType(ButtonWidget b)
 	{
-		this.mainMenu_onSwitchDaylightCycleType(true, () -> {
+		this.mainMenu_onSwitchDaylightCycleType(() -> {
 			this.mainMenu_saveQuickOptionElements();
 			TimeChangerStruggleClient.quickSwitchCachedCycleType(Screen.hasShiftDown());
 		});
 	}
-	void mainMenu_onSwitchDaylightCycleType(boolean loadNewCycleConfig, Runnable consumer) 
+	private Text mainMenu_getButtonWidgetTooltipFirstLine_profile() 
+	{
+		final Optional<CycleProfiles.Profile> profile = TimeChangerStruggleClient.config.getProfiles().getLastAppliedProfile();
+		
+		Text profileText;
+		
+		if (profile.isPresent() && profile.get().cycleKeyName().equals(TimeChangerStruggleClient.getTimeChangerKey()))
+			profileText = new LiteralText(profile.get().name());
+		else
+			profileText = new TranslatableText("jugglestruggle.tcs.screen.switchcyclemenu.desc.using.none");
+		
+		return new TranslatableText("jugglestruggle.tcs.screen.profile.desc.using", profileText);
+	}
+	private void mainMenu_switchProfile(ButtonWidget b)
+	{
+		final String cycleKeyName = TimeChangerStruggleClient.getTimeChangerKey();
+		
+		if (cycleKeyName == null)
+			return;
+		
+		final CycleProfiles profiles = TimeChangerStruggleClient.config.getProfiles();
+		final List<CycleProfiles.Profile> cycleProfiles = profiles.getProfilesOfCycle(cycleKeyName);
+		
+		if (cycleProfiles.isEmpty())
+			return;
+		
+		final Optional<CycleProfiles.Profile> lastAppliedProfile = profiles.getLastAppliedProfile();
+		final boolean backwards = Screen.hasShiftDown();
+		
+		// Go to the one after (or before) the profile that was last applied; starts 
+		// from either end if it is not one of this cycle's profiles
+		int profileIndex = lastAppliedProfile.isPresent() ? cycleProfiles.indexOf(lastAppliedProfile.get()) : -1;
+		
+		if (profileIndex < 0)
+			profileIndex = backwards ? 0 : cycleProfiles.size() - 1;
+		
+		final CycleProfiles.Profile profile = cycleProfiles.get
+			(Math.floorMod(profileIndex + (backwards ? -1 : 1), cycleProfiles.size()));
+		
+		// Goes through the same steps as switching cycles do so that the quick-option
+		// elements show the profile's values
+		this.mainMenu_onSwitchDaylightCycleType(() -> {
+			this.mainMenu_saveQuickOptionElements();
+			profiles.applyProfile(profile);
+		});
+	}
+	void mainMenu_onSwitchDaylightCycleType(Runnable consumer) 
 	{
 		// If the main menu has more than 4 assigned elements, do the thing
 		final List<Element> elements = this.menuElements.get(Menu.MAIN_MENU);
@@ -935,26 +1000,11 @@ public class TimeChangerScreen extends Screen
 			this.mainMenu_removeQuickOptionElements(elements);
 		}
 		
-		Class<?> previousCycleBuilderClass; 
-		Class<?> currentCycleBuilderClass; 
-		
-		boolean theresTimeChanger = TimeChangerStruggleClient.getTimeChanger() != null;
-		previousCycleBuilderClass = theresTimeChanger ? TimeChangerStruggleClient.getTimeChanger().getBuilderClass() : null;
-
 		// Runnable (or consumer) that actually changes the cycle type being used.
-		// To see what this does, see the methods calling this method for it.
+		// To see what this does, see the methods calling this method for it; the
+		// stored values are already written to the cycle by switching to it
 		consumer.run();
 		
-		theresTimeChanger = TimeChangerStruggleClient.getTimeChanger() != null;
-		currentCycleBuilderClass = theresTimeChanger ? TimeChangerStruggleClient.getTimeChanger().getBuilderClass() : null;
-		
-		if (theresTimeChanger && previousCycleBuilderClass != currentCycleBuilderClass)
-		{
-			if (loadNewCycleConfig) {
-				TimeChangerStruggleClient.config.createOrModifyDaylightCycleConfig(TimeChangerStruggleClient.getTimeChanger(), false);
-			}
-		}
-		
 		if (areElementsNotEmpty)
 		{
 			// Then create more elements for the main menu should there be any
@@ -983,6 +1033,16 @@ public class TimeChangerScreen extends Screen
 				this.getTextRenderer()
 			);
 			
+			// Profiles
+			bwe = (ButtonWidgetEx)elements.get(5);
+			
+			bwe.updateTooltip
+			(
+				this.mainMenu_getButtonWidgetTooltipFirstLine_profile(), 
+				new TranslatableText("jugglestruggle.tcs.screen.profile.desc"),
+				this.getTextRenderer()
+			);
+			
 			if (this.currentMenu == Menu.MAIN_MENU) {
 				this.clearChildren(); this.initSelf();
 			}
@@ -1133,7 +1193,7 @@ public class TimeChangerScreen extends Screen
 	private boolean switchDaylightCycleMenu_isCycleBuilderInMenu(DayNightCycleBuilder builderToCheck)
 	{
 		SwitchDaylightCyclePropertyList propList = this.switchDaylightCycleMenu_getPropertyList();
-		return (propList == null) ? false : propList.modifyingCycleType.getBuilderClass().equals(builderToCheck.getClass());
+		return (propList == null) ? false : TimeChangerScreen.isCycleOfBuilder(propList.modifyingCycleType, builderToCheck);
 	}
 	private Text switchDaylightCycleMenu_switchSoloCycleList_getTooltipFirstLine() 
 	{
@@ -1188,15 +1248,26 @@ public class TimeChangerScreen extends Screen
 		
 		if (propList != null && propList.sections != null)
 		{
-			propList.sections.stream()
-				.filter(section -> section.sectionChildrenEntries != null)
-				.forEachOrdered(section -> {
-					section.sectionChildrenEntries.stream()
-						.filter(assumedProp -> assumedProp.properties != null)
-						.forEachOrdered(entry -> { entry.properties.forEach(prop -> {
-							consumer.accept(propList.modifyingCycleType, prop);}); 
-						});
-				});
+			// Written in one batch so that the cycle works out what depends on
+			// the properties only once rather than after each one of them
+			propList.modifyingCycleType.beginPropertyUpdate();
+			
+			try
+			{
+				propList.sections.stream()
+					.filter(section -> section.sectionChildrenEntries != null)
+					.forEachOrdered(section -> {
+						section.sectionChildrenEntries.stream()
+							.filter(assumedProp -> assumedProp.properties != null)
+							.forEachOrdered(entry -> { entry.properties.forEach(prop -> {
+								consumer.accept(propList.modifyingCycleType, prop);}); 
+							});
+					});
+			}
+			finally
+			{
+				propList.modifyingCycleType.commitPropertyUpdate();
+			}
 			
 			
 			propList.dirty = true;
@@ -1432,6 +1503,22 @@ public class TimeChangerScreen extends Screen
 	 * @param elementToDefocus the element to unfocus
 	 * @param <E> the element type to defocus
 	 */
+	/**
+	 * Checks if the cycle was made by the builder. The builders in the menus
+	 * are those of the registry, which are mostly lazy builders whose class
+	 * is never the one that the cycle gives, so the registry is asked for 
+	 * the builder of the cycle instead.
+	 * 
+	 * @param cycle the cycle; can be {@code null}
+	 * @param builder the builder as it is registered
+	 * 
+	 * @return {@code true} if the cycle is of the builder
+	 */
+	private static boolean isCycleOfBuilder(DayNightCycleBasis cycle, DayNightCycleBuilder builder)
+	{
+		return cycle != null && builder != null && TimeChangerStruggleClient
+			.getCachedCycleBuilderByClass(cycle.getBuilderClass()).orElse(null) == builder;
+	}
 	private static <E extends Element> void defocusElement(E elementToDefocus) 
 	{
 		if (elementToDefocus instanceof ClickableWidget)
@@ -1812,8 +1899,7 @@ public class TimeChangerScreen extends Screen
 				}
 				else
 				{
-					this.setOnEdit(propList.modifyingCycleType
-						.getBuilderClass().equals(this.builder.getClass()));
+					this.setOnEdit(TimeChangerScreen.isCycleOfBuilder(propList.modifyingCycleType, this.builder));
 				}
 				
 			}
@@ -1886,8 +1972,7 @@ public class TimeChangerScreen extends Screen
 		}
 		private boolean isDaylightCycleTypeEqual() 
 		{
-			return TimeChangerStruggleClient.getTimeChanger() != null && 
-				this.builder.getClass().equals(TimeChangerStruggleClient.getTimeChanger().getBuilderClass());
+			return TimeChangerScreen.isCycleOfBuilder(TimeChangerStruggleClient.getTimeChanger(), this.builder);
 		}
 		
 		private void setInUse(boolean inUse) 
@@ -1918,16 +2003,17 @@ public class TimeChangerScreen extends Screen
 				.filter(sg -> { return sg.inUse && sg != myInstance; })
 				.forEach(sg -> { sg.setInUse(false); });
 			
-			// Do be sure that if we are going to load the config, it is only loading them 
-			// if there are no properties list loaded for that particular type or if it is,
-			// then just use our existing cycle type rather than creating a new one; no reason
-			// to be wasting memory on something that already exists
+			// If there is a properties list loaded for that particular type, just use the
+			// cycle that it edits rather than creating a new one; otherwise switch to the
+			// world's cycle of the type, which has the stored values written to it
 			final SwitchDaylightCyclePropertyList propList = this.parent.parent.switchDaylightCycleMenu_getPropertyList();
 			final boolean isExistingCycleType = this.parent.parent.switchDaylightCycleMenu_isCycleBuilderInMenu(this.builder);
-			final boolean loadNewConfig = propList == null || !isExistingCycleType;
 			
-			this.parent.parent.mainMenu_onSwitchDaylightCycleType(loadNewConfig, () -> {
-					TimeChangerStruggleClient.setTimeChanger(isExistingCycleType ? propList.modifyingCycleType : this.builder.create());
+			this.parent.parent.mainMenu_onSwitchDaylightCycleType(() -> {
+					if (isExistingCycleType)
+						TimeChangerStruggleClient.setTimeChanger(propList.modifyingCycleType);
+					else
+						TimeChangerStruggleClient.setTimeChanger(this.builder.getKeyName());
 				}
 			);
 			
@@ -257,7 +257,7 @@ public class RainbowRGB extends AbstractRGB
 			this.previousColor = this.color;
 			
 			float delta = (float)this.ticks / (float)this.ticksForNextUpdate;
-			float result = (float)this.interpolation.value(this.easingType, delta);
+			float result = (float)this.interpolation.evaluate(this.easingType, delta);
 			
 			this.color = AbstractRGB.getInterpolatedColor(this.previousChromaColor, this.currentChromaColor, result);
 			
@@ -0,0 +1,97 @@
+package jugglestruggle.timechangerstruggle.client.util.debug;
+
+import jugglestruggle.timechangerstruggle.TimeChangerStruggle;
+import jugglestruggle.timechangerstruggle.mixin.client.world.ClientWorldMixin;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+
+/**
+ * A debugging aid which counts the calls made to
+ * {@link ClientWorldMixin#tcs_getModifiedTime} by threads other than the
+ * render thread, such as the chunk builders or the lighting workers.
+ *
+ * <p> Those threads never touch the cycle itself as they only read the
+ * snapshot which the render thread publishes, but it is still useful to
+ * know who is asking and how often.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class OffThreadTimeCalls
+{
+	/**
+	 * Counts and logs calls when enabled; this is not saved to the config
+	 * as it is only meant to be used for a short amount of time.
+	 */
+	public static volatile boolean enabled = false;
+
+	/**
+	 * The amount of client ticks to wait before logging the collected
+	 * counts, which is about 10 seconds.
+	 */
+	private static final int TICKS_BETWEEN_LOGS = 200;
+
+	private static final Map<String, LongAdder> CALLS_BY_THREAD = new ConcurrentHashMap<>();
+
+	private static int ticksUntilLog = OffThreadTimeCalls.TICKS_BETWEEN_LOGS;
+
+	private OffThreadTimeCalls() {}
+
+	/**
+	 * Counts the call if the tracking is enabled and the current thread
+	 * is not the render thread.
+	 */
+	public static void record()
+	{
+		if (!OffThreadTimeCalls.enabled || RenderSystem.isOnRenderThread())
+			return;
+
+		OffThreadTimeCalls.CALLS_BY_THREAD.computeIfAbsent
+			(Thread.currentThread().getName(), name -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Called on every client tick to periodically log (and then forget)
+	 * the calls that were counted so far.
+	 */
+	public static void tick()
+	{
+		if (!OffThreadTimeCalls.enabled || --OffThreadTimeCalls.ticksUntilLog > 0)
+			return;
+
+		OffThreadTimeCalls.ticksUntilLog = OffThreadTimeCalls.TICKS_BETWEEN_LOGS;
+		OffThreadTimeCalls.logAndReset();
+	}
+
+	public static void logAndReset()
+	{
+		if (OffThreadTimeCalls.CALLS_BY_THREAD.isEmpty())
+			return;
+
+		StringBuilder calls = new StringBuilder();
+
+		OffThreadTimeCalls.CALLS_BY_THREAD.forEach((threadName, count) ->
+		{
+			final long threadCalls = count.sumThenReset();
+
+			if (threadCalls <= 0L)
+				return;
+
+			if (calls.length() > 0)
+				calls.append(", ");
+
+			calls.append(threadName).append('=').append(threadCalls);
+		});
+
+		if (calls.length() > 0)
+			TimeChangerStruggle.LOGGER.info("Off-thread time calls: {}", calls);
+	}
+}
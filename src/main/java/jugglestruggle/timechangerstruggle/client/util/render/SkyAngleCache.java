@@ -0,0 +1,108 @@
+package jugglestruggle.timechangerstruggle.client.util.render;
+
+import jugglestruggle.timechangerstruggle.mixin.client.world.ClientWorldMixin;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import net.minecraft.world.dimension.DimensionType;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+
+/**
+ * A render-frame cache for {@link ClientWorldMixin#getSkyAngle(float)}.
+ *
+ * <p> The game asks for the sky angle several times per frame (world
+ * renderer, background renderer and the lightmap) which, with the buttery
+ * smooth cycle, means two cosines and the wrap-around correction every time.
+ * The angle only depends on the lunar times of the current tick and on the
+ * tick delta so it is computed once for each of those and the cached value
+ * is returned afterwards.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class SkyAngleCache
+{
+	private static long hits;
+	private static long misses;
+
+	private long lunarTime;
+	private long previousLunarTime;
+	private float tickDelta = Float.NaN;
+	private boolean smoothCycle;
+
+	private float skyAngle;
+
+	/**
+	 * Gets the sky angle, only computing it if the lunar times (which only
+	 * change once per tick), the tick delta or the smooth cycle option are
+	 * not the same as the last call.
+	 *
+	 * <p> Calls made outside of the render thread skip the cache entirely.
+	 */
+	public float getSkyAngle(DimensionType dimension, long lunarTime, long previousLunarTime, float tickDelta, boolean smoothCycle)
+	{
+		if (!RenderSystem.isOnRenderThread()) {
+			return SkyAngleCache.computeSkyAngle(dimension, lunarTime, previousLunarTime, tickDelta, smoothCycle);
+		}
+
+		if (this.tickDelta == tickDelta && this.lunarTime == lunarTime &&
+			this.previousLunarTime == previousLunarTime && this.smoothCycle == smoothCycle)
+		{
+			++SkyAngleCache.hits;
+			return this.skyAngle;
+		}
+
+		++SkyAngleCache.misses;
+
+		this.lunarTime = lunarTime;
+		this.previousLunarTime = previousLunarTime;
+		this.tickDelta = tickDelta;
+		this.smoothCycle = smoothCycle;
+
+		return this.skyAngle = SkyAngleCache.computeSkyAngle(dimension, lunarTime, previousLunarTime, tickDelta, smoothCycle);
+	}
+
+	public static float computeSkyAngle(DimensionType dimension, long lunarTime, long previousLunarTime, float tickDelta, boolean smoothCycle)
+	{
+		float lunarAngle = dimension.getSkyAngle(lunarTime);
+
+		if (!smoothCycle)
+			return lunarAngle;
+
+		float lunarAnglePrev = dimension.getSkyAngle(previousLunarTime);
+
+		// This is important; not having it means that once either previous or current reaches higher
+		// than 1.0 in its sky angle it will be reset immediately back to 0 point whatever as a result
+		// of MathHelper.fractionalPart in DimensionType.getSkyAngle removing whole numbers and causing
+		// it to transition backwards; so in the meantime this is the best that I could come up.
+		if ((lunarAnglePrev > lunarAngle) && (lunarTime > previousLunarTime)) {
+			lunarAngle += 1f;
+		} else if ((lunarAngle > lunarAnglePrev) && (previousLunarTime > lunarTime)) {
+			lunarAnglePrev += 1f;
+		}
+
+		return lunarAnglePrev + (lunarAngle - lunarAnglePrev) * tickDelta;
+	}
+
+	public static long getHits() {
+		return SkyAngleCache.hits;
+	}
+	public static long getMisses() {
+		return SkyAngleCache.misses;
+	}
+	/**
+	 * Gets the ratio of calls that were answered by the cache.
+	 * @return a value ranging from 0.0 to 1.0
+	 */
+	public static double getHitRate()
+	{
+		final long total = SkyAngleCache.hits + SkyAngleCache.misses;
+		return total == 0L ? 0.0 : (double)SkyAngleCache.hits / (double)total;
+	}
+	public static void resetCounters() {
+		SkyAngleCache.hits = SkyAngleCache.misses = 0L;
+	}
+}
@@ -5,244 +5,371 @@ import jugglestruggle.timechangerstruggle.client.config.property.FancySectionPro
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.util.EasingTable;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
-import org.apache.commons.compress.utils.IOUtils;
-
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 /**
+ * Reads and writes the configuration by streaming it; values are read
+ * straight into the options and the cycle's properties and written straight
+ * from them without building a tree of the whole file in-between.
  *
  * @author JuggleStruggle
  * @implNote Created on 31-Jan-2022, Monday
  */
 public class Configuration
 {
-	private JsonObject configData;
 	private File configFile;
 	private Gson configDataBaseGson;
+	private ConfigurationWriter configWriter;
+	
+	/**
+	 * The directory in which every cycle has its own file; named after the
+	 * configuration file and placed next to it.
+	 */
+	private File cyclesDirectory;
+	/**
+	 * The binary snapshot of what was last written, read instead of the JSON
+	 * files when it is fresh; see {@link ConfigurationSnapshot}.
+	 */
+	private File snapshotFile;
+	/**
+	 * The named profiles of the cycles, kept in their own file next to the
+	 * configuration file.
+	 */
+	private CycleProfiles profiles;
+	
+	/**
+	 * The global options as they were last read or written.
+	 */
+	private GlobalOptions storedGlobalOptions;
+	/**
+	 * The values of every cycle's properties as they are in their files,
+	 * keyed by the cycle's key name and then by the property's key. Cycles
+	 * are only in here once they have been used, which is when their file
+	 * is read.
+	 */
+	private final Map<String, Map<String, Object>> storedCycleValues = new HashMap<>(4);
+	/**
+	 * The properties of the cycles which were changed since they were last
+	 * written, keyed by the cycle's key name; they are written as they are
+	 * so they should not be used after they are put in here.
+	 */
+	private final Map<String, Set<BaseProperty<?, ?>>> pendingCycleSections = new HashMap<>(4);
+	/**
+	 * Set when a cycle was changed since it was last written.
+	 */
+	private boolean modified = false;
+	/**
+	 * Set while {@link #read()} is running.
+	 */
+	private boolean reading = false;
+	/**
+	 * Counts the changes made to the stored values of any cycle, which lets
+	 * the cycles that were given stored values without owning them know
+	 * when to be given them again.
+	 */
+	private int storedValuesVersion = 0;
 	
-	public Configuration(File configFile) 
+	private long writesPerformed = 0L;
+	private long writesSkipped = 0L;
+	
+	public Configuration(File configFile)
 	{
 		this.configFile = configFile;
 		
+		if (configFile != null)
+		{
+			String directoryName = configFile.getName();
+			
+			if (directoryName.endsWith(".json"))
+				directoryName = directoryName.substring(0, directoryName.length() - 5);
+			
+			this.cyclesDirectory = new File(configFile.getParentFile(), directoryName);
+			this.snapshotFile = new File(configFile.getParentFile(), directoryName + ".bin");
+		}
+		
 		GsonBuilder builder = new GsonBuilder();
 		
 		builder.setPrettyPrinting()
 		       .setLenient();
 		
 		this.configDataBaseGson = builder.create();
+		this.configWriter = new ConfigurationWriter(this.configDataBaseGson);
+		
+		this.profiles = new CycleProfiles(this, (configFile == null) ? null : 
+			new File(configFile.getParentFile(), this.cyclesDirectory.getName() + ".profiles.json"), 
+			this.configDataBaseGson, this.configWriter);
 	}
 	
 	public void read()
+	{
+		this.reading = true;
+		
+		try {
+			this.readConfig();
+		} finally {
+			this.reading = false;
+		}
+	}
+	/**
+	 * Checks if the configuration is being read, during which the cycle in
+	 * use has its stored values written to it once the reading is done.
+	 */
+	public boolean isReading() {
+		return this.reading;
+	}
+	/**
+	 * Gets the count of changes made to the stored values of any cycle; it
+	 * only ever goes up.
+	 */
+	public int getStoredValuesVersion() {
+		return this.storedValuesVersion;
+	}
+	private void readConfig()
 	{
 		boolean populateConfig = false;
-		boolean populateNewFile = false;
-
+		
 		if (this.configFile == null) {
 			populateConfig = true;
 		}
 		else
 		{
-			try 
+			try
 			{
 				populateConfig = !(this.configFile.exists() && this.configFile.canRead());
-				
-				/*
-				if (this.configFile.exists())
-				{
-					if (!this.configFile.canRead())
-						populateConfig = true;
-				}
-				else
-				{
-					this.configFile.createNewFile();
-					populateConfig = true;
-				}
-				 */
 			}
-			catch (Exception ex) 
+			catch (Exception ex)
 			{
-				ex.printStackTrace(); 
+				ex.printStackTrace();
 				populateConfig = true;
 			}
 		}
 		
-		if (populateConfig) 
+		// Read the snapshot if the JSON files have not changed since it was 
+		// made, which skips reading them entirely
+		if (!populateConfig && this.readSnapshot())
 		{
-			this.checkAndPopulateConfigData();
-			
-			if (populateNewFile)
-				this.write();
+			this.storedGlobalOptions = GlobalOptions.current();
+			return;
 		}
-		else
+		
+		if (!populateConfig)
 		{
-			FileReader reader = null;
-			boolean shouldPopulate = false;
-			
-			try
+			try (JsonReader reader = this.configDataBaseGson.newJsonReader(new BufferedReader(new FileReader(this.configFile))))
 			{
-				reader = new FileReader(this.configFile);
-				JsonElement parsedElement = JsonParser.parseReader(reader);
-				
-				if (parsedElement != null && parsedElement.isJsonObject()) 
+				populateConfig = !this.readGlobalOptions(reader);
+			}
+			catch (IOException | IllegalStateException | JsonParseException e)
+			{
+				// Whatever was read before it failed is kept
+				e.printStackTrace();
+			}
+		}
+		
+		this.storedGlobalOptions = GlobalOptions.current();
+		
+		if (populateConfig && TimeChangerStruggleClient.getTimeChanger() != null)
+			this.createOrModifyDaylightCycleConfig(TimeChangerStruggleClient.getTimeChanger(), false);
+	}
+	
+	/**
+	 * Reads the global options, applying each one as soon as it is read.
+	 *
+	 * @param reader the reader of the configuration file
+	 * @return {@code false} if the file does not contain an object
+	 */
+	private boolean readGlobalOptions(JsonReader reader) throws IOException
+	{
+		if (reader.peek() != JsonToken.BEGIN_OBJECT)
+			return false;
+		
+		String activeDaylightChanger = "";
+		
+		int easingLookupTableResolution = EasingTable.getResolution();
+		boolean easingLookupTables = EasingTable.isEnabled();
+		
+		JsonObject legacySections = null;
+		
+		reader.beginObject();
+		
+		while (reader.hasNext())
+		{
+			switch (reader.nextName())
+			{
+				case "worldTime":
+					TimeChangerStruggleClient.worldTime = Configuration.nextBoolean(reader, TimeChangerStruggleClient.worldTime); break;
+				case "dateOverTicks":
+					TimeChangerStruggleClient.dateOverTicks = Configuration.nextBoolean(reader, TimeChangerStruggleClient.dateOverTicks); break;
+				case "smoothButterCycle":
+					TimeChangerStruggleClient.smoothButterCycle = Configuration.nextBoolean(reader, TimeChangerStruggleClient.smoothButterCycle); break;
+				case "disableNightVisionEffect":
+					TimeChangerStruggleClient.disableNightVisionEffect = Configuration.nextBoolean(reader, TimeChangerStruggleClient.disableNightVisionEffect); break;
+				case "applyOnPropertyListValueUpdate":
+					TimeChangerStruggleClient.applyOnPropertyListValueUpdate = Configuration.nextBoolean(reader, TimeChangerStruggleClient.applyOnPropertyListValueUpdate); break;
+				case "commandFeedbackOnLessImportant":
+					TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant = Configuration.nextBoolean(reader, TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant); break;
+				case "disableWorldTimeOnCycleUsage":
+					TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage = Configuration.nextBoolean(reader, TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage); break;
+				case "easingLookupTables":
+					easingLookupTables = Configuration.nextBoolean(reader, easingLookupTables); break;
+				case "easingLookupTableResolution":
+					easingLookupTableResolution = Configuration.nextInt(reader, easingLookupTableResolution); break;
+				case "activeDaylightChanger":
+					activeDaylightChanger = Configuration.nextString(reader, activeDaylightChanger); break;
+				case "cyclesSection":
 				{
-					this.configData = parsedElement.getAsJsonObject();
-					this.checkAndPopulateConfigData();
-					
-					TimeChangerStruggleClient.dateOverTicks = this.configData.get("dateOverTicks").getAsBoolean();
-					TimeChangerStruggleClient.worldTime = this.configData.get("worldTime").getAsBoolean();
-					TimeChangerStruggleClient.smoothButterCycle = this.configData.get("smoothButterCycle").getAsBoolean();
-					TimeChangerStruggleClient.disableNightVisionEffect = this.configData.get("disableNightVisionEffect").getAsBoolean();
-					TimeChangerStruggleClient.applyOnPropertyListValueUpdate = this.configData.get("applyOnPropertyListValueUpdate").getAsBoolean();
-					TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant = this.configData.get("commandFeedbackOnLessImportant").getAsBoolean();
-					TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage = this.configData.get("disableWorldTimeOnCycleUsage").getAsBoolean();
+					// Older versions kept every cycle in here; this is the only part
+					// which is still read as a tree since it is only read once
+					JsonElement sections = JsonParser.parseReader(reader);
 					
-					JsonElement elem = this.configData.get("activeDaylightChanger");
+					if (sections.isJsonObject())
+						legacySections = sections.getAsJsonObject();
 					
-					if (elem != null && elem.isJsonPrimitive()) 
-					{
-						String activeDaylightChangerText = elem.getAsString();
-						
-						if (!activeDaylightChangerText.isEmpty() && !activeDaylightChangerText.isBlank())
-						{
-							TimeChangerStruggleClient.setTimeChanger(elem.getAsString());
-							this.createOrModifyDaylightCycleConfig(TimeChangerStruggleClient.getTimeChanger(), false);
-						}
-					}
-				}
-				else
-				{
-					shouldPopulate = true;
+					break;
 				}
-			} 
-			catch (FileNotFoundException e) {
-				e.printStackTrace();
-			} finally  {
-				IOUtils.closeQuietly(reader);
+				default:
+					reader.skipValue(); break;
 			}
+		}
+		
+		reader.endObject();
+		
+		EasingTable.setResolution(easingLookupTableResolution);
+		EasingTable.setEnabled(easingLookupTables);
+		
+		final boolean hasActiveDaylightChanger = !activeDaylightChanger.isEmpty() && !activeDaylightChanger.isBlank();
+		
+		if (hasActiveDaylightChanger)
+			TimeChangerStruggleClient.setTimeChanger(activeDaylightChanger);
+		
+		// Write the split up files right away (and wait for them) so that the
+		// active cycle can be read from its own file and the next start does
+		// not have to go through every section again
+		if (legacySections != null)
+		{
+			this.migrateLegacyCycleSections(legacySections);
 			
-			if (shouldPopulate) {
-				this.checkAndPopulateConfigData();
-			}
+			this.write();
+			this.flush();
 		}
+		
+		if (hasActiveDaylightChanger && TimeChangerStruggleClient.getTimeChanger() != null)
+			this.createOrModifyDaylightCycleConfig(TimeChangerStruggleClient.getTimeChanger(), false);
+		
+		return true;
 	}
 	
 	public void write()
 	{
-		this.configData.addProperty("worldTime", TimeChangerStruggleClient.worldTime);
-		this.configData.addProperty("dateOverTicks", TimeChangerStruggleClient.dateOverTicks);
-		this.configData.addProperty("smoothButterCycle", TimeChangerStruggleClient.smoothButterCycle);
-		this.configData.addProperty("disableNightVisionEffect", TimeChangerStruggleClient.disableNightVisionEffect);
-		this.configData.addProperty("applyOnPropertyListValueUpdate", TimeChangerStruggleClient.applyOnPropertyListValueUpdate);
-		this.configData.addProperty("commandFeedbackOnLessImportant", TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant);
-		this.configData.addProperty("disableWorldTimeOnCycleUsage", TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage);
+		final GlobalOptions globalOptions = GlobalOptions.current();
 		
-		this.configData.addProperty("activeDaylightChanger", (TimeChangerStruggleClient.getTimeChangerKey() == null) ? "" : TimeChangerStruggleClient.getTimeChangerKey());
+		this.storedGlobalOptions = globalOptions;
+		this.modified = false;
 		
 		if (this.configFile == null)
+		{
+			this.pendingCycleSections.clear();
 			return;
+		}
 		
-		FileWriter writer = null;
-		JsonWriter jsonWriter = null;
+		++this.writesPerformed;
 		
-		try
+		// The writer works on its own thread, so it is only given data that
+		// will not be changed by anything that happens after this
+		this.configWriter.schedule(this.configFile, globalOptions::write);
+		
+		Iterator<Map.Entry<String, Set<BaseProperty<?, ?>>>> sectionIterator =
+			this.pendingCycleSections.entrySet().iterator();
+		
+		while (sectionIterator.hasNext())
 		{
-			if (this.configFile.exists()) {
-				this.configFile.delete();
-			}
+			final Map.Entry<String, Set<BaseProperty<?, ?>>> section = sectionIterator.next();
+			final Set<BaseProperty<?, ?>> props = section.getValue();
 			
-			this.configFile.createNewFile();
-			
-			writer = new FileWriter(this.configFile);
-			jsonWriter = new JsonWriter(writer);
-			
-			this.configDataBaseGson.toJson(this.configData, jsonWriter);
-		} 
-		catch (IOException e)
-		{
-			e.printStackTrace();
+			this.configWriter.schedule(this.getCycleSectionFile(section.getKey()),
+				writer -> Configuration.writeCycleSection(writer, props));
 		}
 		
-		finally
-		{
-			IOUtils.closeQuietly(writer);
-			IOUtils.closeQuietly(jsonWriter);
-		}
+		this.pendingCycleSections.clear();
 		
-//		if (this.configFile.)
+		// Goes last so that it is only written after the files it is made from
+		this.scheduleSnapshot(globalOptions);
 	}
 	
-
 	/**
-	 * Attempts to write only if the properties on memory aren't their default
-	 * setting. This is to avoid writes that aren't needed. 
-	 * 
-	 * <p> This might, in the future, be expanded to account for user changes 
-	 * that haven't really occurred from a game session.
+	 * Writes any of the pending writes right away; used when the game
+	 * closes to not lose any of the changes.
+	 */
+	public void flush() {
+		this.configWriter.flush();
+	}
+	
+	
+	
+	/**
+	 * Attempts to write only if the properties on memory are not the same as
+	 * the ones that were last read or written, or if any of the cycles were
+	 * changed since then. This is to avoid writes that aren't needed.
 	 */
 	public void writeIfModified()
 	{
-		if (TimeChangerStruggleClient.worldTime != true || 
-			TimeChangerStruggleClient.dateOverTicks != false ||
-			TimeChangerStruggleClient.applyOnPropertyListValueUpdate != false || 
-			TimeChangerStruggleClient.smoothButterCycle != true ||
-			TimeChangerStruggleClient.disableNightVisionEffect != true ||
-			TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant != true ||
-			TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage != true ||
-			TimeChangerStruggleClient.getTimeChangerKey() != null)
-		{
+		if (this.modified || !GlobalOptions.current().equals(this.storedGlobalOptions)) {
 			this.write();
+		} else {
+			++this.writesSkipped;
 		}
 	}
 	
+	public CycleProfiles getProfiles() {
+		return this.profiles;
+	}
+	
+	public long getWritesPerformed() {
+		return this.writesPerformed;
+	}
+	public long getWritesSkipped() {
+		return this.writesSkipped;
+	}
 	
 	
 	
 	
 	
-	private void checkAndPopulateConfigData()
-	{
-		if (this.configData == null)
-			this.configData = new JsonObject();
-		
-		Configuration.checkOrCreateProperty(this.configData, "worldTime", TimeChangerStruggleClient.worldTime);
-		Configuration.checkOrCreateProperty(this.configData, "dateOverTicks", TimeChangerStruggleClient.dateOverTicks);
-		Configuration.checkOrCreateProperty(this.configData, "smoothButterCycle", TimeChangerStruggleClient.smoothButterCycle);
-		Configuration.checkOrCreateProperty(this.configData, "disableNightVisionEffect", TimeChangerStruggleClient.disableNightVisionEffect);
-		Configuration.checkOrCreateProperty(this.configData, "applyOnPropertyListValueUpdate", TimeChangerStruggleClient.applyOnPropertyListValueUpdate);
-		Configuration.checkOrCreateProperty(this.configData, "commandFeedbackOnLessImportant", TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant);
-		Configuration.checkOrCreateProperty(this.configData, "disableWorldTimeOnCycleUsage", TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage);
-
-		Configuration.checkOrCreateProperty(this.configData, "activeDaylightChanger", 
-			(TimeChangerStruggleClient.getTimeChangerKey() == null) ? "" : TimeChangerStruggleClient.getTimeChangerKey());
-		
-		if (TimeChangerStruggleClient.getTimeChanger() != null)
-			this.createOrModifyDaylightCycleConfig(TimeChangerStruggleClient.getTimeChanger(), false);
-	}
 	
 	/**
 	 * Creates or modifies existing daylight cycle properties; removes if
 	 * the properties generated by the daylight cycle is empty.
-	 * 
+	 *
+	 * <p> The cycle's file is read the first time that the cycle is used,
+	 * reading its values straight into a set of properties. When the stored 
+	 * values are written to the cycle, only those that differ from the 
+	 * cycle's own are written, so this can be called on a cycle that is 
+	 * already in use without it starting over.
+	 *
 	 * @param cycle the daylight cycle to load/save properties onto
-	 * @param overrideConfigValues {@code true} to override stored existing 
+	 * @param overrideConfigValues {@code true} to override stored existing
 	 * options in Configuration
 	 */
 	@SuppressWarnings("unchecked")
@@ -261,152 +388,516 @@ public class Configuration
 		
 		Set<BaseProperty<?, ?>> props = cycle.createProperties();
 		
-		if (props == null || props.isEmpty()) 
+		if (props == null || props.isEmpty())
 		{
-			JsonElement cyclesSection = this.configData.get("cyclesSection");
-			
 			// Remove the config entry should it exist
-			if (cyclesSection != null && cyclesSection.isJsonObject() &&
-				cyclesSection.getAsJsonObject().has(cycleKeyName))
-				cyclesSection.getAsJsonObject().remove(cycleKeyName);
-			
+			this.removeConfigSection(cycleKeyName);
 			return;
 		}
 		
-		final Map.Entry<JsonObject, Boolean> cycleSectEntry = 
-			this.getOrCreateConfigSection(cycleKeyName);
+		final Map<String, Object> storedValues = this.getStoredCycleValues(cycle, cycleKeyName, props.size());
 		
-		final JsonObject section = cycleSectEntry.getKey();
-		final boolean sectionCreated = cycleSectEntry.getValue();
+		boolean sectionModified = false;
 		
-		Iterator<BaseProperty<?, ?>> propsIterator = props.iterator();
+		// Stored values are written in one batch so that the cycle works out
+		// what depends on them only once
+		cycle.beginPropertyUpdate();
 		
-		while (propsIterator.hasNext())
+		try
 		{
-			BaseProperty<?, ?> prop = propsIterator.next();
-			
-			if (prop instanceof FancySectionProperty)
-				continue;
+			Iterator<BaseProperty<?, ?>> propsIterator = props.iterator();
 			
-			final String propKey = prop.property();
-			final boolean hasPropEntry = section.has(propKey);
-			
-			// If it has the element, have the property instead be written only if
-			// our section entry returns true, assuming that this is an existing
-			// section that was returned rather than a created one
-			if (!overrideConfigValues && sectionCreated && hasPropEntry) 
+			while (propsIterator.hasNext())
 			{
-				prop.readFromJson(section.get(propKey)); 
-				cycle.writePropertyValueToCycle((B)prop);
-			}
-			// If not, just write it as a JSON entry and add it into the section
-			else
-			{
-				final JsonElement propElem = prop.writeToJson();
+				BaseProperty<?, ?> prop = propsIterator.next();
+				
+				if (prop instanceof FancySectionProperty)
+					continue;
 				
-				if (propElem == null)
+				final String propKey = prop.property();
+				final boolean hasPropEntry = storedValues.containsKey(propKey);
+				
+				// If it has the value, have the property instead be written only if
+				// we are not overriding what is stored
+				if (!overrideConfigValues && hasPropEntry)
 				{
-					if (overrideConfigValues && hasPropEntry) {
-						section.remove(propKey);
+					final Object storedValue = storedValues.get(propKey);
+					
+					// Only what differs is written; a cycle which is carried on with 
+					// (like the one of a world that is visited again) then keeps what
+					// it worked out from the values it already has
+					if (!Objects.equals(prop.get(), storedValue))
+					{
+						((B)prop).set((V)storedValue);
+						cycle.writePropertyValueToCycle((B)prop);
 					}
+					
+					prop.clearDirty();
+				}
+				// If not, store its value so that it gets written
+				else
+				{
+					// Properties are freshly created by the cycle, so let them know
+					// what was stored to only write the ones which have changed
+					if (hasPropEntry)
+						((B)prop).setSavedValue((V)storedValues.get(propKey));
+					
+					if (!prop.isDirty())
+						continue;
+					
+					prop.clearDirty();
+					storedValues.put(propKey, prop.get());
+					
+					sectionModified = true;
 				}
-				else {
-					section.add(propKey, propElem);
+			}
+		}
+		finally
+		{
+			cycle.commitPropertyUpdate();
+		}
+		
+		if (sectionModified)
+		{
+			this.pendingCycleSections.put(cycleKeyName, props);
+			this.modified = true;
+			
+			++this.storedValuesVersion;
+		}
+	}
+	/**
+	 * Writes the stored values to a cycle which does not own them, like a 
+	 * layer of a layered cycle; only those that differ from the cycle's own
+	 * are written.
+	 *
+	 * <p> Unlike {@link #createOrModifyDaylightCycleConfig}, what is stored
+	 * is never changed: values which are not stored are left as the cycle 
+	 * has them and nothing is scheduled to be written.
+	 *
+	 * @param cycle the daylight cycle to write the stored values to
+	 */
+	@SuppressWarnings("unchecked")
+	public <B extends BaseProperty<B, V>, V> void applyStoredCycleValues(DayNightCycleBasis cycle)
+	{
+		Optional<DayNightCycleBuilder> builder = TimeChangerStruggleClient.
+			getCachedCycleBuilderByClass(cycle.getBuilderClass());
+		
+		if (!builder.isPresent()) {
+			return;
+		}
+		
+		final String cycleKeyName = builder.get().getKeyName();
+		final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+		
+		if (props == null || props.isEmpty())
+			return;
+		
+		final Map<String, Object> storedValues = this.getStoredCycleValues(cycle, cycleKeyName, props.size());
+		
+		if (storedValues.isEmpty())
+			return;
+		
+		cycle.beginPropertyUpdate();
+		
+		try
+		{
+			for (BaseProperty<?, ?> prop : props)
+			{
+				if (prop instanceof FancySectionProperty || !storedValues.containsKey(prop.property()))
+					continue;
+				
+				final Object storedValue = storedValues.get(prop.property());
+				
+				if (!Objects.equals(prop.get(), storedValue))
+				{
+					((B)prop).set((V)storedValue);
+					cycle.writePropertyValueToCycle((B)prop);
 				}
 			}
 		}
+		finally
+		{
+			cycle.commitPropertyUpdate();
+		}
+	}
+	/**
+	 * Gets the stored values of a cycle's type, reading its file the first
+	 * time that they are asked for.
+	 */
+	private Map<String, Object> getStoredCycleValues(DayNightCycleBasis cycle, String cycleKeyName, int expectedValues)
+	{
+		Map<String, Object> storedValues = this.storedCycleValues.get(cycleKeyName);
+		
+		if (storedValues == null)
+		{
+			storedValues = new HashMap<>(expectedValues);
+			this.storedCycleValues.put(cycleKeyName, storedValues);
+			
+			// Read into properties of their own, as the ones of the caller have
+			// to keep the cycle's values for the read values to be seen as differing
+			this.readCycleSection(cycleKeyName, cycle.createProperties(), storedValues);
+		}
+		
+		return storedValues;
 	}
 	
 	/**
-	 * Gets or creates a configuration section. This is primarily used on
-	 * daylight cycle types to have them store their own configs.
+	 * Applies the snapshot if it is fresh.
 	 * 
-	 * @param propertyName the name of the key
-	 * @return 
-	 * <ul>
-	 * <li> a json object; can either be obtained or created,
-	 * <li> a boolean; {@code true} means that the section already existed;
-	 *      otherwise it was created
-	 * </ul>
+	 * @return {@code true} if the snapshot was used
 	 */
-	public Map.Entry<JsonObject, Boolean> getOrCreateConfigSection(String propertyName)
+	@SuppressWarnings("unchecked")
+	private <B extends BaseProperty<B, V>, V> boolean readSnapshot()
 	{
-		JsonElement sections = this.configData.get("cyclesSection");
+		if (this.snapshotFile == null)
+			return false;
+		
+		final ConfigurationSnapshot snapshot = 
+			ConfigurationSnapshot.read(this.snapshotFile, this.configFile, this::getCycleSectionFile);
+		
+		if (snapshot == null)
+			return false;
+		
+		snapshot.globalOptions.apply();
+		
+		final String activeDaylightChanger = snapshot.globalOptions.activeDaylightChanger();
+		
+		if (activeDaylightChanger.isEmpty())
+			return true;
 		
-		if (sections == null || !sections.isJsonObject()) 
+		TimeChangerStruggleClient.setTimeChanger(activeDaylightChanger);
+		
+		final DayNightCycleBasis cycle = TimeChangerStruggleClient.getTimeChanger();
+		
+		if (cycle == null)
+			return true;
+		
+		// Have the values be the ones which were read from the cycle's file so 
+		// that it does not have to be read
+		final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+		
+		if (props != null)
 		{
-			sections = new JsonObject();
-			this.configData.add("cyclesSection", sections);
+			Map<String, Object> storedValues = new HashMap<>(props.size());
+			
+			for (BaseProperty<?, ?> prop : props)
+			{
+				if (prop instanceof FancySectionProperty)
+					continue;
+				
+				final JsonPrimitive value = snapshot.cycleValues.get(prop.property());
+				
+				if (value != null) 
+				{
+					prop.readFromJson(value);
+					storedValues.put(prop.property(), prop.get());
+				}
+			}
+			
+			this.storedCycleValues.put(activeDaylightChanger, storedValues);
 		}
 		
-		JsonElement propertyElement = sections.getAsJsonObject().get(propertyName);
+		this.createOrModifyDaylightCycleConfig(cycle, false);
 		
-		if (propertyElement != null && propertyElement.isJsonObject()) {
-			return new SimpleImmutableEntry<>(propertyElement.getAsJsonObject(), true);
-		} 
-//		else if (propertyElement != null) {
-//			this.configData.remove(propertyName);
-//		}
+		return true;
+	}
+	/**
+	 * Schedules the snapshot to be written after everything else which was
+	 * scheduled to be written.
+	 */
+	private void scheduleSnapshot(GlobalOptions globalOptions)
+	{
+		if (this.snapshotFile == null)
+			return;
+		
+		final String activeDaylightChanger = globalOptions.activeDaylightChanger();
 		
-		JsonObject createdSection = new JsonObject();
-		sections.getAsJsonObject().add(propertyName, createdSection);
+		Map<String, JsonPrimitive> cycleValues = Map.of();
+		File cycleFile = null;
 		
-		return new SimpleImmutableEntry<>(createdSection, false);
+		if (!activeDaylightChanger.isEmpty())
+		{
+			cycleValues = this.createSnapshotCycleValues(activeDaylightChanger);
+			cycleFile = this.getCycleSectionFile(activeDaylightChanger);
+			
+			// Without the values it would not be any different from an outdated
+			// snapshot, which is why it is removed
+			if (cycleValues == null) 
+			{
+				this.configWriter.delete(this.snapshotFile);
+				return;
+			}
+		}
+		
+		final ConfigurationSnapshot snapshot = new ConfigurationSnapshot(globalOptions, cycleValues);
+		final File configFile = this.configFile;
+		final File activeCycleFile = cycleFile;
+		
+		this.configWriter.scheduleBinary(this.snapshotFile, output ->
+		{
+			// Keep the last snapshot if the files were not written as it still 
+			// matches what is in them; a new one would not
+			if (this.configWriter.hasLastWriteFailed(configFile) || 
+				(activeCycleFile != null && this.configWriter.hasLastWriteFailed(activeCycleFile)))
+			{
+				throw new IOException("Skipped as the files it is made from were not written");
+			}
+			
+			snapshot.write(output, configFile, activeCycleFile);
+		});
 	}
-	public static <V> void checkOrCreateProperty(JsonObject section, String propertyName, V defaultValue) 
+	/**
+	 * Gets the stored values of the cycle as they are written to its file.
+	 * 
+	 * @return the values; {@code null} if the cycle is not the active one,
+	 * has not been stored or has values which are not primitives
+	 */
+	@SuppressWarnings("unchecked")
+	private <B extends BaseProperty<B, V>, V> Map<String, JsonPrimitive> createSnapshotCycleValues(String cycleKeyName)
 	{
-		JsonElement propertyElement = section.get(propertyName);
+		final DayNightCycleBasis cycle = TimeChangerStruggleClient.getTimeChanger();
+		final Map<String, Object> storedValues = this.storedCycleValues.get(cycleKeyName);
+		
+		if (cycle == null || storedValues == null || !cycleKeyName.equals(TimeChangerStruggleClient.getTimeChangerKey()))
+			return null;
+		
+		final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+		
+		if (props == null)
+			return Map.of();
 		
-		boolean expectingPrimitive = (defaultValue instanceof Number || 
-			defaultValue instanceof String || defaultValue instanceof Boolean);
+		Map<String, JsonPrimitive> cycleValues = new LinkedHashMap<>(props.size());
 		
-		if (propertyElement == null)
+		for (BaseProperty<?, ?> prop : props)
 		{
-			if (expectingPrimitive) {
-				Configuration.addExpectedPrimitive(section, propertyName, defaultValue);
-			}
+			if (prop instanceof FancySectionProperty || !storedValues.containsKey(prop.property()))
+				continue;
+			
+			((B)prop).set((V)storedValues.get(prop.property()));
+			
+			final JsonElement elem = prop.writeToJson();
+			
+			if (elem == null)
+				continue;
+			else if (!elem.isJsonPrimitive())
+				return null;
+			
+			cycleValues.put(prop.property(), elem.getAsJsonPrimitive());
 		}
-		else
+		
+		return cycleValues;
+	}
+	
+	/**
+	 * Removes a cycle's configuration along with its file, if there is one.
+	 *
+	 * @param cycleKeyName the key name of the cycle
+	 */
+	public void removeConfigSection(String cycleKeyName)
+	{
+		this.storedCycleValues.remove(cycleKeyName);
+		this.pendingCycleSections.remove(cycleKeyName);
+		
+		if (this.cyclesDirectory == null)
+			return;
+		
+		final File sectionFile = this.getCycleSectionFile(cycleKeyName);
+		
+		if (sectionFile.exists())
+			this.configWriter.delete(sectionFile);
+	}
+	
+	private File getCycleSectionFile(String cycleKeyName)
+	{
+		StringBuilder fileName = new StringBuilder(cycleKeyName.length() + 5);
+		
+		// Keep the name safe for every file system; the built-in ones already
+		// are but others might not be
+		for (int i = 0; i < cycleKeyName.length(); ++i)
 		{
-			if (expectingPrimitive)
+			final char c = cycleKeyName.charAt(i);
+			
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_')
+				fileName.append(c);
+			else
+				fileName.append('_');
+		}
+		
+		return new File(this.cyclesDirectory, fileName.append(".json").toString());
+	}
+	/**
+	 * Reads a cycle's file straight into its properties and keeps the values
+	 * which were read; properties which are not in the file are left alone
+	 * and anything else in it is skipped.
+	 */
+	private void readCycleSection(String cycleKeyName, Set<BaseProperty<?, ?>> props, Map<String, Object> storedValues)
+	{
+		if (this.cyclesDirectory == null)
+			return;
+		
+		final File sectionFile = this.getCycleSectionFile(cycleKeyName);
+		
+		if (!sectionFile.exists() || !sectionFile.canRead())
+			return;
+		
+		Map<String, BaseProperty<?, ?>> propsByKey = new HashMap<>(props.size());
+		
+		for (BaseProperty<?, ?> prop : props)
+		{
+			if (!(prop instanceof FancySectionProperty))
+				propsByKey.put(prop.property(), prop);
+		}
+		
+		try (JsonReader reader = this.configDataBaseGson.newJsonReader(new BufferedReader(new FileReader(sectionFile))))
+		{
+			if (reader.peek() != JsonToken.BEGIN_OBJECT)
+				return;
+			
+			reader.beginObject();
+			
+			while (reader.hasNext())
 			{
-				if (propertyElement.isJsonPrimitive())
-				{
-					JsonPrimitive primitive = propertyElement.getAsJsonPrimitive();
-					
-					boolean removeAndAdd = false;
-					
-					if (primitive.isBoolean()) {
-						removeAndAdd = (defaultValue instanceof Number || defaultValue instanceof String);
-					} else if (primitive.isNumber()) {
-						removeAndAdd = (defaultValue instanceof String || defaultValue instanceof Boolean);
-					} else if (primitive.isString()) {
-						removeAndAdd = (defaultValue instanceof Boolean || defaultValue instanceof Number);
-					}
-					
-					if (removeAndAdd)
-					{
-						section.remove(propertyName);
-						Configuration.addExpectedPrimitive(section, propertyName, defaultValue);
-					}
+				final BaseProperty<?, ?> prop = propsByKey.get(reader.nextName());
+				
+				if (prop == null) {
+					reader.skipValue(); continue;
 				}
+				
+				prop.readFromJson(reader);
+				storedValues.put(prop.property(), prop.get());
 			}
+			
+			reader.endObject();
+		}
+		catch (IOException | IllegalStateException | JsonParseException e) {
+			e.printStackTrace();
+		}
+	}
+	private static void writeCycleSection(JsonWriter writer, Set<BaseProperty<?, ?>> props) throws IOException
+	{
+		writer.beginObject();
+		
+		for (BaseProperty<?, ?> prop : props)
+		{
+			if (!(prop instanceof FancySectionProperty))
+				prop.writeToJson(writer);
+		}
+		
+		writer.endObject();
+	}
+	/**
+	 * Moves the sections that older versions kept inside of the configuration
+	 * file into their own files.
+	 */
+	private void migrateLegacyCycleSections(JsonObject legacySections)
+	{
+		if (this.cyclesDirectory == null)
+			return;
+		
+		for (Map.Entry<String, JsonElement> legacySection : legacySections.entrySet())
+		{
+			if (!legacySection.getValue().isJsonObject())
+				continue;
+			
+			final File sectionFile = this.getCycleSectionFile(legacySection.getKey());
+			
+			// Sections that already have their own file are the newer ones
+			if (sectionFile.exists())
+				continue;
+			
+			final JsonObject section = legacySection.getValue().getAsJsonObject();
+			
+			this.configWriter.schedule(sectionFile, writer -> this.configDataBaseGson.toJson(section, writer));
 		}
 	}
 	
-	private static <V> JsonPrimitive addExpectedPrimitive(JsonObject section, String propertyName, V value) 
+	private static boolean nextBoolean(JsonReader reader, boolean fallback) throws IOException
 	{
-		JsonPrimitive primitive;
+		if (reader.peek() == JsonToken.BOOLEAN)
+			return reader.nextBoolean();
 		
-		if (value instanceof Number)
-			primitive = new JsonPrimitive((Number)value);
-		else if (value instanceof Boolean)
-			primitive = new JsonPrimitive((Boolean)value);
-		else
-			primitive = new JsonPrimitive((String)value);
+		reader.skipValue();
+		return fallback;
+	}
+	private static int nextInt(JsonReader reader, int fallback) throws IOException
+	{
+		if (reader.peek() == JsonToken.NUMBER)
+		{
+			try {
+				return reader.nextInt();
+			} catch (NumberFormatException e) {}
+		}
+		
+		reader.skipValue();
+		return fallback;
+	}
+	private static String nextString(JsonReader reader, String fallback) throws IOException
+	{
+		if (reader.peek() == JsonToken.STRING)
+			return reader.nextString();
+		
+		reader.skipValue();
+		return fallback;
+	}
+	
+	/**
+	 * The options which are not part of any cycle; taken all at once so that
+	 * they can be compared with the ones that were written and be written
+	 * on another thread.
+	 */
+	record GlobalOptions
+	(
+		boolean worldTime, boolean dateOverTicks, boolean smoothButterCycle,
+		boolean disableNightVisionEffect, boolean applyOnPropertyListValueUpdate,
+		boolean commandFeedbackOnLessImportant, boolean disableWorldTimeOnCycleUsage,
+		boolean easingLookupTables, int easingLookupTableResolution,
+		String activeDaylightChanger
+	)
+	{
+		static GlobalOptions current()
+		{
+			return new GlobalOptions
+			(
+				TimeChangerStruggleClient.worldTime, TimeChangerStruggleClient.dateOverTicks,
+				TimeChangerStruggleClient.smoothButterCycle, TimeChangerStruggleClient.disableNightVisionEffect,
+				TimeChangerStruggleClient.applyOnPropertyListValueUpdate,
+				TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant,
+				TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage,
+				EasingTable.isEnabled(), EasingTable.getResolution(),
+				(TimeChangerStruggleClient.getTimeChangerKey() == null) ? "" : TimeChangerStruggleClient.getTimeChangerKey()
+			);
+		}
 		
-		section.add(propertyName, primitive);
+		void apply()
+		{
+			TimeChangerStruggleClient.worldTime = this.worldTime;
+			TimeChangerStruggleClient.dateOverTicks = this.dateOverTicks;
+			TimeChangerStruggleClient.smoothButterCycle = this.smoothButterCycle;
+			TimeChangerStruggleClient.disableNightVisionEffect = this.disableNightVisionEffect;
+			TimeChangerStruggleClient.applyOnPropertyListValueUpdate = this.applyOnPropertyListValueUpdate;
+			TimeChangerStruggleClient.commandsCommandFeedbackOnLessImportant = this.commandFeedbackOnLessImportant;
+			TimeChangerStruggleClient.commandsDisableWorldTimeOnCycleUsage = this.disableWorldTimeOnCycleUsage;
+			
+			EasingTable.setResolution(this.easingLookupTableResolution);
+			EasingTable.setEnabled(this.easingLookupTables);
+		}
 		
-		return primitive;
+		void write(JsonWriter writer) throws IOException
+		{
+			writer.beginObject();
+			
+			writer.name("worldTime").value(this.worldTime);
+			writer.name("dateOverTicks").value(this.dateOverTicks);
+			writer.name("smoothButterCycle").value(this.smoothButterCycle);
+			writer.name("disableNightVisionEffect").value(this.disableNightVisionEffect);
+			writer.name("applyOnPropertyListValueUpdate").value(this.applyOnPropertyListValueUpdate);
+			writer.name("commandFeedbackOnLessImportant").value(this.commandFeedbackOnLessImportant);
+			writer.name("disableWorldTimeOnCycleUsage").value(this.disableWorldTimeOnCycleUsage);
+			writer.name("easingLookupTables").value(this.easingLookupTables);
+			writer.name("easingLookupTableResolution").value(this.easingLookupTableResolution);
+			writer.name("activeDaylightChanger").value(this.activeDaylightChanger);
+			
+			writer.endObject();
+		}
 	}
 }
@@ -0,0 +1,241 @@
+package jugglestruggle.timechangerstruggle.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+/**
+ * A compact binary copy of the resolved configuration: the global options,
+ * the active cycle and the values of its properties. It is read instead of
+ * the JSON files when the game starts for as long as it is fresh.
+ *
+ * <p> It is fresh when the JSON files that it was made from still have the
+ * same size, last modified time and CRC32 as when it was written; if any
+ * of those differ (the files were edited by hand for instance) the JSON
+ * files are read like usual.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+final class ConfigurationSnapshot
+{
+	/** {@code DCSS}, as in Daylight Changer Struggle Snapshot. */
+	static final int MAGIC = 0x44435353;
+	/** Increased whenever the layout changes; other versions are ignored. */
+	static final int VERSION = 1;
+
+	private static final byte TYPE_BOOLEAN = 'Z';
+	private static final byte TYPE_NUMBER = 'N';
+	private static final byte TYPE_STRING = 'S';
+
+	final Configuration.GlobalOptions globalOptions;
+	/**
+	 * The values of the active cycle's properties as they are written in its
+	 * file; empty if there is no active cycle.
+	 */
+	final Map<String, JsonPrimitive> cycleValues;
+
+	ConfigurationSnapshot(Configuration.GlobalOptions globalOptions, Map<String, JsonPrimitive> cycleValues)
+	{
+		this.globalOptions = globalOptions;
+		this.cycleValues = cycleValues;
+	}
+
+	/**
+	 * Reads the snapshot if it is fresh.
+	 *
+	 * @param snapshotFile the snapshot to read
+	 * @param configFile the configuration file that it was made from
+	 * @param cycleFiles gets the file of a cycle from its key name
+	 *
+	 * @return the snapshot, or {@code null} if it does not exist, cannot be
+	 * read or is no longer fresh
+	 */
+	static ConfigurationSnapshot read(File snapshotFile, File configFile, Function<String, File> cycleFiles)
+	{
+		final byte[] bytes;
+
+		try {
+			bytes = Files.readAllBytes(snapshotFile.toPath());
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			e.printStackTrace(); return null;
+		}
+
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes)))
+		{
+			if (input.readInt() != ConfigurationSnapshot.MAGIC || input.readInt() != ConfigurationSnapshot.VERSION)
+				return null;
+
+			if (!ConfigurationSnapshot.matchesFingerprint(input, configFile))
+				return null;
+
+			final int flags = input.readInt();
+			final int easingLookupTableResolution = input.readInt();
+			final String activeDaylightChanger = input.readUTF();
+
+			final Configuration.GlobalOptions globalOptions = new Configuration.GlobalOptions
+			(
+				(flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, (flags & 8) != 0,
+				(flags & 16) != 0, (flags & 32) != 0, (flags & 64) != 0, (flags & 128) != 0,
+				easingLookupTableResolution, activeDaylightChanger
+			);
+
+			if (activeDaylightChanger.isEmpty())
+				return new ConfigurationSnapshot(globalOptions, Map.of());
+
+			if (!ConfigurationSnapshot.matchesFingerprint(input, cycleFiles.apply(activeDaylightChanger)))
+				return null;
+
+			final int valueCount = input.readInt();
+			Map<String, JsonPrimitive> cycleValues = new LinkedHashMap<>(valueCount);
+
+			for (int i = 0; i < valueCount; ++i)
+			{
+				final String key = input.readUTF();
+				final byte type = input.readByte();
+
+				switch (type)
+				{
+					case ConfigurationSnapshot.TYPE_BOOLEAN:
+						cycleValues.put(key, new JsonPrimitive(input.readBoolean())); break;
+					case ConfigurationSnapshot.TYPE_NUMBER:
+						cycleValues.put(key, new JsonPrimitive(new LazilyParsedNumber(input.readUTF()))); break;
+					case ConfigurationSnapshot.TYPE_STRING:
+						cycleValues.put(key, new JsonPrimitive(input.readUTF())); break;
+					default:
+						return null;
+				}
+			}
+
+			return new ConfigurationSnapshot(globalOptions, cycleValues);
+		}
+		catch (IOException e) {
+			// Cut short or otherwise broken; the JSON files will be used instead
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the snapshot along with the fingerprints of the files that it
+	 * was made from, which should have already been written.
+	 *
+	 * @param output the output to write to
+	 * @param configFile the configuration file
+	 * @param cycleFile the active cycle's file; {@code null} if there is no
+	 * active cycle
+	 */
+	void write(DataOutputStream output, File configFile, File cycleFile) throws IOException
+	{
+		final Configuration.GlobalOptions options = this.globalOptions;
+
+		output.writeInt(ConfigurationSnapshot.MAGIC);
+		output.writeInt(ConfigurationSnapshot.VERSION);
+
+		ConfigurationSnapshot.writeFingerprint(output, configFile);
+
+		output.writeInt
+		(
+			(options.worldTime() ? 1 : 0) | (options.dateOverTicks() ? 2 : 0) |
+			(options.smoothButterCycle() ? 4 : 0) | (options.disableNightVisionEffect() ? 8 : 0) |
+			(options.applyOnPropertyListValueUpdate() ? 16 : 0) | (options.commandFeedbackOnLessImportant() ? 32 : 0) |
+			(options.disableWorldTimeOnCycleUsage() ? 64 : 0) | (options.easingLookupTables() ? 128 : 0)
+		);
+		output.writeInt(options.easingLookupTableResolution());
+		output.writeUTF(cycleFile == null ? "" : options.activeDaylightChanger());
+
+		if (cycleFile == null)
+			return;
+
+		ConfigurationSnapshot.writeFingerprint(output, cycleFile);
+
+		output.writeInt(this.cycleValues.size());
+
+		for (Map.Entry<String, JsonPrimitive> cycleValue : this.cycleValues.entrySet())
+		{
+			final JsonPrimitive value = cycleValue.getValue();
+
+			output.writeUTF(cycleValue.getKey());
+
+			if (value.isBoolean())
+			{
+				output.writeByte(ConfigurationSnapshot.TYPE_BOOLEAN);
+				output.writeBoolean(value.getAsBoolean());
+			}
+			else
+			{
+				// Numbers are kept as they are written in JSON so that they are
+				// read back exactly the same way
+				output.writeByte(value.isNumber() ? ConfigurationSnapshot.TYPE_NUMBER : ConfigurationSnapshot.TYPE_STRING);
+				output.writeUTF(value.getAsString());
+			}
+		}
+	}
+
+	private static void writeFingerprint(DataOutputStream output, File file) throws IOException
+	{
+		final Path path = file.toPath();
+
+		if (Files.exists(path))
+		{
+			output.writeLong(Files.size(path));
+			output.writeLong(Files.getLastModifiedTime(path).toMillis());
+			output.writeLong(ConfigurationSnapshot.checksumOf(path));
+		}
+		else
+		{
+			output.writeLong(-1L);
+			output.writeLong(0L);
+			output.writeLong(0L);
+		}
+	}
+	private static boolean matchesFingerprint(DataInputStream input, File file) throws IOException
+	{
+		final long size = input.readLong();
+		final long lastModified = input.readLong();
+		final long checksum = input.readLong();
+
+		final Path path = file.toPath();
+
+		if (!Files.exists(path))
+			return size == -1L;
+
+		// The checksum is the slowest so it is left for last
+		return Files.size(path) == size &&
+			Files.getLastModifiedTime(path).toMillis() == lastModified &&
+			ConfigurationSnapshot.checksumOf(path) == checksum;
+	}
+	private static long checksumOf(Path path) throws IOException
+	{
+		CRC32 crc = new CRC32();
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			while (channel.read(buffer) != -1)
+			{
+				buffer.flip();
+				crc.update(buffer);
+				buffer.clear();
+			}
+		}
+
+		return crc.getValue();
+	}
+}
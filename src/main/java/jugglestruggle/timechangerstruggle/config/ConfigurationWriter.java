@@ -0,0 +1,280 @@
+package jugglestruggle.timechangerstruggle.config;
+
+import jugglestruggle.timechangerstruggle.TimeChangerStruggle;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes configuration files away from the client thread.
+ *
+ * <p> Writes are delayed by {@link #DEBOUNCE_MILLIS} and every write that
+ * is requested for the same file within that delay replaces the pending
+ * one, so a burst of changes (like a few option commands in a row) ends up
+ * as a single write of the latest data.
+ *
+ * <p> Files are written to a temporary file next to them first and then
+ * moved over the real one so that the file is never left half-written.
+ *
+ * <p> What gets written is given as a {@link JsonWriteAction} (or as a
+ * {@link BinaryWriteAction}) which streams its data straight to the file.
+ * Pending writes are done in the order that their files were last
+ * scheduled in.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public class ConfigurationWriter
+{
+	public static final long DEBOUNCE_MILLIS = 500L;
+
+	private final Gson gson;
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Data that is waiting to be written with the task that will write it,
+	 * in the order that it was scheduled; guarded by {@code this}.
+	 */
+	private final Map<File, PendingWrite> pendingWrites = new LinkedHashMap<>(4);
+	/**
+	 * The files whose last write has failed; only used on the writer's 
+	 * thread.
+	 */
+	private final Set<File> failedFiles = new HashSet<>(2);
+
+	public ConfigurationWriter(Gson gson)
+	{
+		this.gson = gson;
+
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "DaylightChangerStruggle Config Writer");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	/**
+	 * Schedules the data to be written to the file, replacing any data
+	 * that was still waiting to be written to it.
+	 *
+	 * @param file the file to write to
+	 * @param data writes the data; as it is called on another thread it
+	 * should only use data that will not be modified after this call
+	 */
+	public void schedule(File file, JsonWriteAction data)
+	{
+		this.scheduleStream(file, output ->
+		{
+			try (JsonWriter jsonWriter = this.gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)))) {
+				data.write(jsonWriter);
+			}
+		});
+	}
+	/**
+	 * Same as {@link #schedule(File, JsonWriteAction)} except that the data
+	 * is written as it is rather than as JSON.
+	 *
+	 * @param file the file to write to
+	 * @param data writes the data; see {@link #schedule(File, JsonWriteAction)}
+	 */
+	public void scheduleBinary(File file, BinaryWriteAction data)
+	{
+		this.scheduleStream(file, output ->
+		{
+			try (DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(output))) {
+				data.write(dataOutput);
+			}
+		});
+	}
+	private synchronized void scheduleStream(File file, StreamWriteAction data)
+	{
+		// Removed rather than replaced so that the file goes after everything
+		// that was scheduled before it
+		final PendingWrite previousWrite = this.pendingWrites.remove(file);
+
+		if (previousWrite != null)
+			previousWrite.task.cancel(false);
+
+		final PendingWrite pendingWrite = new PendingWrite(data);
+		pendingWrite.task = this.executor.schedule(() -> this.writePending(file, pendingWrite),
+			ConfigurationWriter.DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+
+		this.pendingWrites.put(file, pendingWrite);
+	}
+
+	/**
+	 * Deletes the file, forgetting any data that was still waiting to be 
+	 * written to it.
+	 *
+	 * @param file the file to delete
+	 */
+	public synchronized void delete(File file)
+	{
+		final PendingWrite previousWrite = this.pendingWrites.remove(file);
+
+		if (previousWrite != null)
+			previousWrite.task.cancel(false);
+
+		this.executor.execute(() ->
+		{
+			try {
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException e) {
+				TimeChangerStruggle.LOGGER.error("Failed to delete the configuration file {}", file, e);
+			}
+		});
+	}
+
+	/**
+	 * Writes everything that is still pending right away and waits for it
+	 * to be done; used when the game is about to close.
+	 */
+	public void flush()
+	{
+		final Map<File, PendingWrite> writesToFlush;
+
+		synchronized (this)
+		{
+			writesToFlush = new LinkedHashMap<>(this.pendingWrites);
+
+			Iterator<PendingWrite> pendingIterator = writesToFlush.values().iterator();
+
+			while (pendingIterator.hasNext())
+				pendingIterator.next().task.cancel(false);
+		}
+
+		// Still done on the writer's thread so that a write which might already 
+		// be running finishes first rather than racing with these ones
+		try {
+			this.executor.submit(() -> writesToFlush.forEach(this::writePending)).get(5L, TimeUnit.SECONDS);
+		} catch (InterruptedException | ExecutionException | TimeoutException e) {
+			TimeChangerStruggle.LOGGER.warn("Gave up waiting for the configuration writer", e);
+		}
+	}
+
+	private void writePending(File file, PendingWrite pendingWrite)
+	{
+		synchronized (this)
+		{
+			// Only write if this is still the latest data for the file as it
+			// could have been replaced (or already flushed) in the meantime
+			if (this.pendingWrites.get(file) != pendingWrite)
+				return;
+
+			this.pendingWrites.remove(file);
+		}
+
+		try 
+		{
+			this.write(file.toPath(), pendingWrite.data);
+			this.failedFiles.remove(file);
+		} 
+		catch (IOException e) 
+		{
+			this.failedFiles.add(file);
+			TimeChangerStruggle.LOGGER.error("Failed to write the configuration to {}", file, e);
+		}
+	}
+	
+	/**
+	 * Checks if the last write of the file has failed, meaning that what is
+	 * in it is older than what was last scheduled. Only to be used from 
+	 * within a write action, which is on the writer's thread.
+	 *
+	 * @param file the file to check
+	 * @return {@code true} if the last attempt at writing it has failed
+	 */
+	public boolean hasLastWriteFailed(File file) {
+		return this.failedFiles.contains(file);
+	}
+
+	/**
+	 * Writes the data to a temporary file next to the target and moves it
+	 * over the target; falls back to a plain replace when the file system
+	 * does not support atomic moves.
+	 */
+	private void write(Path target, StreamWriteAction data) throws IOException
+	{
+		final Path directory = target.toAbsolutePath().getParent();
+
+		if (directory != null)
+			Files.createDirectories(directory);
+
+		final Path temporaryFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+
+		try
+		{
+			try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+				data.write(output);
+			}
+
+			try {
+				Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Writes the data of a file.
+	 */
+	@FunctionalInterface
+	public interface JsonWriteAction
+	{
+		void write(JsonWriter writer) throws IOException;
+	}
+	/**
+	 * Writes the data of a binary file.
+	 */
+	@FunctionalInterface
+	public interface BinaryWriteAction
+	{
+		void write(DataOutputStream output) throws IOException;
+	}
+	@FunctionalInterface
+	private interface StreamWriteAction
+	{
+		void write(OutputStream output) throws IOException;
+	}
+
+	private static final class PendingWrite
+	{
+		final StreamWriteAction data;
+		ScheduledFuture<?> task;
+
+		PendingWrite(StreamWriteAction data) {
+			this.data = data;
+		}
+	}
+}
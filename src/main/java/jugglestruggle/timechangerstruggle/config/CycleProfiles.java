@@ -0,0 +1,370 @@
+package jugglestruggle.timechangerstruggle.config;
+
+import jugglestruggle.timechangerstruggle.client.TimeChangerStruggleClient;
+import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
+import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Named sets of values for a cycle's properties which can be switched to
+ * all at once, like a few seeds of the Randomized Time cycle.
+ *
+ * <p> Every profile is kept in a single file next to the configuration
+ * file which is read the first time that any profile is needed and is then
+ * kept in memory, indexed by the profile's name. Switching to a profile
+ * only uses what is in memory.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public class CycleProfiles
+{
+	private final Configuration config;
+	private final File profilesFile;
+	private final Gson gson;
+	private final ConfigurationWriter writer;
+
+	/**
+	 * Every profile keyed by its name, sorted by name; {@code null} until
+	 * the file is read.
+	 */
+	private Map<String, Profile> profiles = null;
+	/**
+	 * The name of the profile which was last applied; only kept while the
+	 * game is running.
+	 */
+	private String lastAppliedProfile = null;
+
+	CycleProfiles(Configuration config, File profilesFile, Gson gson, ConfigurationWriter writer)
+	{
+		this.config = config;
+		this.profilesFile = profilesFile;
+		this.gson = gson;
+		this.writer = writer;
+	}
+
+	/**
+	 * Gets every profile, sorted by their names.
+	 */
+	public Collection<Profile> getProfiles() {
+		return Collections.unmodifiableCollection(this.getIndex().values());
+	}
+	/**
+	 * Gets the profiles made for the cycle, sorted by their names.
+	 *
+	 * @param cycleKeyName the key name of the cycle
+	 */
+	public List<Profile> getProfilesOfCycle(String cycleKeyName)
+	{
+		List<Profile> cycleProfiles = new ArrayList<>(4);
+
+		for (Profile profile : this.getIndex().values())
+		{
+			if (profile.cycleKeyName().equals(cycleKeyName))
+				cycleProfiles.add(profile);
+		}
+
+		return cycleProfiles;
+	}
+	public Optional<Profile> getProfile(String name) {
+		return Optional.ofNullable(this.getIndex().get(name));
+	}
+	/**
+	 * Gets the profile that was last applied if it still exists.
+	 */
+	public Optional<Profile> getLastAppliedProfile() {
+		return (this.lastAppliedProfile == null) ? Optional.empty() : this.getProfile(this.lastAppliedProfile);
+	}
+
+	/**
+	 * Saves the current values of the cycle's properties as a profile,
+	 * replacing the profile with the same name should there be one.
+	 *
+	 * @param name the name of the profile
+	 * @param cycleKeyName the key name of the cycle
+	 * @param cycle the cycle to take the values from
+	 *
+	 * @return the saved profile
+	 */
+	public Profile saveProfile(String name, String cycleKeyName, DayNightCycleBasis cycle)
+	{
+		final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+		Map<String, JsonElement> values = new LinkedHashMap<>((props == null) ? 0 : props.size());
+
+		if (props != null)
+		{
+			for (BaseProperty<?, ?> prop : props)
+			{
+				if (prop instanceof FancySectionProperty)
+					continue;
+
+				final JsonElement value = prop.writeToJson();
+
+				if (value != null)
+					values.put(prop.property(), value);
+			}
+		}
+
+		final Profile profile = new Profile(name, cycleKeyName, Collections.unmodifiableMap(values));
+
+		this.getIndex().put(name, profile);
+		this.lastAppliedProfile = name;
+
+		this.scheduleWrite();
+
+		return profile;
+	}
+	/**
+	 * Removes the profile.
+	 *
+	 * @param name the name of the profile
+	 * @return {@code true} if there was a profile to remove
+	 */
+	public boolean removeProfile(String name)
+	{
+		if (this.getIndex().remove(name) == null)
+			return false;
+
+		if (name.equals(this.lastAppliedProfile))
+			this.lastAppliedProfile = null;
+
+		this.scheduleWrite();
+
+		return true;
+	}
+
+	/**
+	 * Switches to the profile's cycle if it is not the one in use and then
+	 * applies every value of the profile to it.
+	 *
+	 * <p> The values are also stored in the cycle's configuration, but it
+	 * is up to the caller to write it.
+	 *
+	 * @param profile the profile to apply
+	 * @return the cycle that the profile was applied to; {@code null} if
+	 * the profile's cycle does not exist
+	 */
+	public DayNightCycleBasis applyProfile(Profile profile)
+	{
+		DayNightCycleBasis cycle = TimeChangerStruggleClient.getTimeChanger();
+
+		if (cycle == null || !profile.cycleKeyName().equals(TimeChangerStruggleClient.getTimeChangerKey()))
+		{
+			if (!TimeChangerStruggleClient.cachedCycleTypeExists(profile.cycleKeyName()))
+				return null;
+
+			// This also writes what is stored to the cycle so that values which
+			// the profile does not have (like those of properties added later 
+			// on) are still set
+			TimeChangerStruggleClient.setTimeChanger(profile.cycleKeyName());
+			cycle = TimeChangerStruggleClient.getTimeChanger();
+		}
+
+		profile.applyTo(cycle);
+
+		this.lastAppliedProfile = profile.name();
+
+		this.config.createOrModifyDaylightCycleConfig(cycle, true);
+
+		return cycle;
+	}
+
+	private Map<String, Profile> getIndex()
+	{
+		if (this.profiles == null)
+		{
+			this.profiles = new TreeMap<>();
+			this.read();
+		}
+
+		return this.profiles;
+	}
+
+	private void read()
+	{
+		if (this.profilesFile == null || !this.profilesFile.exists() || !this.profilesFile.canRead())
+			return;
+
+		try (JsonReader reader = this.gson.newJsonReader(new BufferedReader(new FileReader(this.profilesFile))))
+		{
+			if (reader.peek() != JsonToken.BEGIN_OBJECT)
+				return;
+
+			reader.beginObject();
+
+			while (reader.hasNext())
+			{
+				final Profile profile = CycleProfiles.readProfile(reader.nextName(), reader);
+
+				if (profile != null)
+					this.profiles.put(profile.name(), profile);
+			}
+
+			reader.endObject();
+		}
+		catch (IOException | IllegalStateException | JsonParseException e) {
+			// Whatever was read before it failed is kept
+			e.printStackTrace();
+		}
+	}
+	private static Profile readProfile(String name, JsonReader reader) throws IOException
+	{
+		if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+			reader.skipValue(); return null;
+		}
+
+		String cycleKeyName = null;
+		Map<String, JsonElement> values = new LinkedHashMap<>();
+
+		reader.beginObject();
+
+		while (reader.hasNext())
+		{
+			switch (reader.nextName())
+			{
+				case "cycle":
+				{
+					if (reader.peek() == JsonToken.STRING)
+						cycleKeyName = reader.nextString();
+					else
+						reader.skipValue();
+
+					break;
+				}
+				case "values":
+				{
+					if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+						reader.skipValue(); break;
+					}
+
+					reader.beginObject();
+
+					while (reader.hasNext())
+						values.put(reader.nextName(), JsonParser.parseReader(reader));
+
+					reader.endObject();
+
+					break;
+				}
+				default:
+					reader.skipValue(); break;
+			}
+		}
+
+		reader.endObject();
+
+		if (cycleKeyName == null)
+			return null;
+
+		return new Profile(name, cycleKeyName, Collections.unmodifiableMap(values));
+	}
+
+	private void scheduleWrite()
+	{
+		if (this.profilesFile == null)
+			return;
+
+		// Profiles are never modified once made, so a copy of the index is
+		// all that the writer needs
+		final List<Profile> profilesToWrite = new ArrayList<>(this.profiles.values());
+
+		this.writer.schedule(this.profilesFile, jsonWriter ->
+		{
+			jsonWriter.beginObject();
+
+			for (Profile profile : profilesToWrite)
+			{
+				jsonWriter.name(profile.name());
+				this.writeProfile(jsonWriter, profile);
+			}
+
+			jsonWriter.endObject();
+		});
+	}
+	private void writeProfile(JsonWriter writer, Profile profile) throws IOException
+	{
+		writer.beginObject();
+
+		writer.name("cycle").value(profile.cycleKeyName());
+		writer.name("values").beginObject();
+
+		for (Map.Entry<String, JsonElement> value : profile.values().entrySet())
+		{
+			writer.name(value.getKey());
+			this.gson.toJson(value.getValue(), writer);
+		}
+
+		writer.endObject();
+		writer.endObject();
+	}
+
+	/**
+	 * A named set of values for a cycle's properties.
+	 *
+	 * @param name the name of the profile
+	 * @param cycleKeyName the key name of the cycle that it is for
+	 * @param values the values keyed by the property's key, as they are
+	 * written in the cycle's file
+	 */
+	public record Profile(String name, String cycleKeyName, Map<String, JsonElement> values)
+	{
+		/**
+		 * Applies every value of the profile to the cycle in one go;
+		 * properties which the profile does not have are left alone.
+		 *
+		 * @param cycle the cycle to apply to
+		 * @return the amount of properties that were applied
+		 */
+		public int applyTo(DayNightCycleBasis cycle)
+		{
+			final Set<BaseProperty<?, ?>> props = cycle.createProperties();
+
+			if (props == null)
+				return 0;
+
+			final List<BaseProperty<?, ?>> appliedProperties = new ArrayList<>(props.size());
+
+			for (BaseProperty<?, ?> prop : props)
+			{
+				if (prop instanceof FancySectionProperty)
+					continue;
+
+				final JsonElement value = this.values.get(prop.property());
+
+				if (value == null)
+					continue;
+
+				prop.readFromJson(value);
+				appliedProperties.add(prop);
+			}
+
+			// Written in one batch so that what the cycle works out from them
+			// (like the randomized time's rolls) is only worked out once
+			cycle.writePropertyValuesToCycle(appliedProperties);
+
+			return appliedProperties.size();
+		}
+	}
+}
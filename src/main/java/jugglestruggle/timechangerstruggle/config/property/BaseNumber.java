@@ -8,9 +8,14 @@ import jugglestruggle.timechangerstruggle.client.screen.TimeChangerScreen;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
+import java.io.IOException;
+
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * A base number type is a type that stores numbers alone as its value
@@ -131,6 +136,30 @@ public abstract class BaseNumber<N extends Number> extends BaseProperty<BaseNumb
 			this.getDefaultValue() : value);
 	}
 	
+	@Override
+	public void readFromJson(JsonReader reader) throws IOException
+	{
+		if (reader.peek() != JsonToken.NUMBER) {
+			reader.skipValue(); return;
+		}
+		
+		// Numbers are kept as they were written until they are parsed into
+		// the type that this property expects
+		final N n = this.parseStringNumber(reader.nextString());
+		
+		if (n != null) {
+			this.set(n);
+		}
+	}
+	@Override
+	public void writeToJson(JsonWriter writer) throws IOException
+	{
+		N value = this.get();
+		
+		writer.name(this.propertyKey).value(value == null ? 
+			this.getDefaultValue() : value);
+	}
+	
 	@Override
 	public WidgetConfigInterface<BaseNumber<N>, N> createConfigElement
 	(TimeChangerScreen screen, FancySectionProperty owningSection)
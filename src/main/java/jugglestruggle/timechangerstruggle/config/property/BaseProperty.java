@@ -9,7 +9,14 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.io.IOException;
+import java.util.Objects;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 
@@ -21,6 +28,12 @@ import com.mojang.brigadier.context.CommandContext;
 @Environment(EnvType.CLIENT)
 public abstract class BaseProperty<B extends BaseProperty<B, V>, V>
 {
+	/**
+	 * Only used to write the elements of properties which do not write
+	 * themselves to a {@link JsonWriter}.
+	 */
+	private static final Gson GSON = new Gson();
+	
 	protected final String propertyKey;
 	
 	protected V value;
@@ -28,6 +41,20 @@ public abstract class BaseProperty<B extends BaseProperty<B, V>, V>
 	
 	protected ValueConsumer<B, V> consumer;
 	
+	/**
+	 * The value which was last known to be stored in the configuration; 
+	 * only meaningful if {@link #hasSavedValue} is {@code true}.
+	 */
+	private V savedValue;
+	private boolean hasSavedValue = false;
+	
+	/**
+	 * The table that {@link #bindingIndex} was resolved against; see
+	 * {@link CyclePropertyBindings#indexOf(BaseProperty)}.
+	 */
+	CyclePropertyBindings<?> bindingTable;
+	int bindingIndex = -1;
+	
 	public BaseProperty(String property, V value) {
 		this(property, value, value);
 	}
@@ -51,6 +78,31 @@ public abstract class BaseProperty<B extends BaseProperty<B, V>, V>
 	}
 	
 	public abstract void set(V value);
+	
+	/**
+	 * Checks if the value differs from the one that was last stored in the
+	 * configuration. Properties which were never stored are always dirty.
+	 * 
+	 * @return {@code true} if this property has to be written again
+	 */
+	public boolean isDirty() {
+		return !this.hasSavedValue || !Objects.equals(this.value, this.savedValue);
+	}
+	/**
+	 * Marks the current value as the one stored in the configuration.
+	 */
+	public void clearDirty() {
+		this.setSavedValue(this.value);
+	}
+	/**
+	 * Sets the value that is known to be stored in the configuration, which
+	 * is then used by {@link #isDirty()} to know if this has to be written.
+	 * 
+	 * @param savedValue the stored value
+	 */
+	public void setSavedValue(V savedValue) {
+		this.savedValue = savedValue; this.hasSavedValue = true;
+	}
 
 	/**
 	 * Creates a configuration element used in {@link TimeChangerScreen} 
@@ -127,6 +179,40 @@ public abstract class BaseProperty<B extends BaseProperty<B, V>, V>
 	 */
 	public abstract JsonElement writeToJson();
 	
+	/**
+	 * Reads the value straight from the reader, which is placed right 
+	 * before this property's value. The value has to be consumed even if 
+	 * it cannot be used.
+	 * 
+	 * <p> By default this reads the value as an element and passes it on 
+	 * to {@link #readFromJson(JsonElement)}.
+	 * 
+	 * @param reader the reader to read the value from
+	 * @throws IOException if the reader fails to read
+	 */
+	public void readFromJson(JsonReader reader) throws IOException {
+		this.readFromJson(JsonParser.parseReader(reader));
+	}
+	/**
+	 * Writes this property (both its name and its value) straight to the 
+	 * writer; nothing is written if there is nothing to write.
+	 * 
+	 * <p> By default this writes the element from {@link #writeToJson()}.
+	 * 
+	 * @param writer the writer to write the property to
+	 * @throws IOException if the writer fails to write
+	 */
+	public void writeToJson(JsonWriter writer) throws IOException
+	{
+		final JsonElement elem = this.writeToJson();
+		
+		if (elem != null) 
+		{
+			writer.name(this.propertyKey);
+			BaseProperty.GSON.toJson(elem, writer);
+		}
+	}
+	
 	public ValueConsumer<B, V> getConsumer() {
 		return this.consumer;
 	}
@@ -10,6 +10,7 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.io.IOException;
 import java.util.Locale;
 
 import net.minecraft.text.LiteralText;
@@ -21,6 +22,9 @@ import net.minecraft.client.gui.widget.CyclingButtonWidget;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.context.CommandContext;
@@ -128,4 +132,17 @@ public class BooleanValue extends BaseProperty<BooleanValue, Boolean>
 	public JsonElement writeToJson() {
 		return new JsonPrimitive(this.get());
 	}
+	
+	@Override
+	public void readFromJson(JsonReader reader) throws IOException
+	{
+		if (reader.peek() == JsonToken.BOOLEAN)
+			this.set(reader.nextBoolean());
+		else
+			reader.skipValue();
+	}
+	@Override
+	public void writeToJson(JsonWriter writer) throws IOException {
+		writer.name(this.propertyKey).value(this.get().booleanValue());
+	}
 }
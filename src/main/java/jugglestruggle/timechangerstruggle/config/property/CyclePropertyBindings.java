@@ -0,0 +1,161 @@
+package jugglestruggle.timechangerstruggle.config.property;
+
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * A table of setters which write property values straight to a cycle,
+ * made once per cycle class and used by its
+ * {@link DayNightCycleBasis#writePropertyValueToCycle(BaseProperty)}
+ * instead of going through its property types and keys every time.
+ *
+ * <p> Each property key is given an index in the table; properties remember
+ * the index that they were resolved to (along with the table that it
+ * belongs to) so that writing the same property again is a direct call.
+ *
+ * <p> Cycles which do not have a table keep on using their own
+ * {@code writePropertyValueToCycle}, nothing else changes for them.
+ *
+ * @param <C> the cycle that the table writes to
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class CyclePropertyBindings<C extends DayNightCycleBasis>
+{
+	private final Map<String, Integer> indices;
+	private final Binding<C>[] bindings;
+
+	private CyclePropertyBindings(Map<String, Integer> indices, Binding<C>[] bindings)
+	{
+		this.indices = indices;
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Starts a table for the cycle.
+	 *
+	 * @param cycleClass the cycle's class; only there so that the type of
+	 * the cycle given to the setters does not have to be spelled out
+	 */
+	public static <C extends DayNightCycleBasis> Builder<C> builder(Class<C> cycleClass) {
+		return new Builder<>();
+	}
+
+	/**
+	 * Writes the property's value to the cycle.
+	 *
+	 * @param cycle the cycle to write to
+	 * @param property the property to write
+	 *
+	 * @return {@code true} if the property was written; {@code false} if
+	 * there is no setter for its key or if its type is not the one that the
+	 * setter is for
+	 */
+	public boolean write(C cycle, BaseProperty<?, ?> property)
+	{
+		final int index = this.indexOf(property);
+
+		if (index < 0)
+			return false;
+
+		final Binding<C> binding = this.bindings[index];
+
+		if (!binding.accepts.test(property))
+			return false;
+
+		binding.setter.accept(cycle, property);
+
+		return true;
+	}
+
+	/**
+	 * Gets the index of the property's setter, resolving it only if the
+	 * property was not already resolved against this table.
+	 *
+	 * @param property the property to look for
+	 * @return the index; {@code -1} if there is no setter for its key
+	 */
+	public int indexOf(BaseProperty<?, ?> property)
+	{
+		if (property.bindingTable == this)
+			return property.bindingIndex;
+
+		final Integer index = this.indices.get(property.property());
+
+		property.bindingTable = this;
+		property.bindingIndex = (index == null) ? -1 : index;
+
+		return property.bindingIndex;
+	}
+	public int size() {
+		return this.bindings.length;
+	}
+
+	private record Binding<C>(Predicate<BaseProperty<?, ?>> accepts, BiConsumer<C, BaseProperty<?, ?>> setter) {}
+
+	@Environment(EnvType.CLIENT)
+	public static final class Builder<C extends DayNightCycleBasis>
+	{
+		private final Map<String, Integer> indices = new HashMap<>();
+		private final List<Binding<C>> bindings = new ArrayList<>();
+
+		private Builder() {}
+
+		/**
+		 * Binds the key to a setter which takes the property as it is.
+		 *
+		 * @param key the property's key
+		 * @param propertyType the type that the property has to be
+		 * @param setter writes the property's value to the cycle
+		 *
+		 * @return this builder
+		 */
+		public <P extends BaseProperty<?, ?>> Builder<C> bind(String key, Class<P> propertyType, BiConsumer<C, P> setter)
+		{
+			return this.add(key, propertyType::isInstance,
+				(cycle, property) -> setter.accept(cycle, propertyType.cast(property)));
+		}
+		/**
+		 * Binds the key to a setter of an {@link EnumValue}'s value; values
+		 * of any other enum are not accepted.
+		 *
+		 * @param key the property's key
+		 * @param enumType the enum that the value has to be of
+		 * @param setter writes the value to the cycle
+		 *
+		 * @return this builder
+		 */
+		public <E extends Enum<E>> Builder<C> bindEnum(String key, Class<E> enumType, BiConsumer<C, E> setter)
+		{
+			return this.add(key, property -> property instanceof EnumValue<?> && enumType.isInstance(property.get()),
+				(cycle, property) -> setter.accept(cycle, enumType.cast(property.get())));
+		}
+
+		private Builder<C> add(String key, Predicate<BaseProperty<?, ?>> accepts, BiConsumer<C, BaseProperty<?, ?>> setter)
+		{
+			if (this.indices.containsKey(key))
+				throw new IllegalArgumentException("The property '" + key + "' is already bound");
+
+			this.indices.put(key, this.bindings.size());
+			this.bindings.add(new Binding<>(accepts, setter));
+
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		public CyclePropertyBindings<C> build() {
+			return new CyclePropertyBindings<>(Map.copyOf(this.indices), this.bindings.toArray(new Binding[0]));
+		}
+	}
+}
@@ -0,0 +1,350 @@
+package jugglestruggle.timechangerstruggle.config.property;
+
+import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The properties of a cycle class, described once: their keys, the order
+ * they are in, the sections that they are in (along with the section's
+ * translation), the type and bounds of each of them and where each of
+ * them takes its value from on the cycle.
+ *
+ * <p> What never changes is only made once and shared; the sections are
+ * the same instances every time. Each call to
+ * {@link #createProperties(DayNightCycleBasis)} only makes the properties
+ * themselves from their descriptions, each holding the cycle's current 
+ * value, as they are what gets edited by the screen and by the 
+ * configuration.
+ *
+ * @param <C> the cycle that the schema describes
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class CyclePropertySchema<C extends DayNightCycleBasis>
+{
+	private final Entry<C>[] entries;
+	private final Map<String, Entry<C>> entriesByKey;
+	private final int propertyCount;
+
+	private CyclePropertySchema(Entry<C>[] entries, Map<String, Entry<C>> entriesByKey, int propertyCount)
+	{
+		this.entries = entries;
+		this.entriesByKey = entriesByKey;
+		this.propertyCount = propertyCount;
+	}
+
+	/**
+	 * Starts a schema for the cycle.
+	 *
+	 * @param cycleClass the cycle's class; only there so that the type of
+	 * the cycle given to the properties does not have to be spelled out
+	 */
+	public static <C extends DayNightCycleBasis> Builder<C> builder(Class<C> cycleClass) {
+		return new Builder<>();
+	}
+
+	/**
+	 * Creates the sections and the properties in their order, each property
+	 * holding the cycle's current value.
+	 *
+	 * @param cycle the cycle to take the values from
+	 * @return a set that can be returned by
+	 * {@link DayNightCycleBasis#createProperties()}
+	 */
+	public Set<BaseProperty<?, ?>> createProperties(C cycle)
+	{
+		ImmutableSet.Builder<BaseProperty<?, ?>> props = ImmutableSet.builderWithExpectedSize(this.entries.length);
+
+		for (Entry<C> entry : this.entries)
+			props.add(entry.isSection() ? entry.section() : entry.property().apply(cycle));
+
+		return props.build();
+	}
+	/**
+	 * Creates a single property holding the cycle's current value.
+	 *
+	 * @param cycle the cycle to take the value from
+	 * @param key the property's key
+	 *
+	 * @return the property; {@code null} if there is no property with the
+	 * key (sections are not counted)
+	 */
+	public BaseProperty<?, ?> createProperty(C cycle, String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return (entry == null || entry.isSection()) ? null : entry.property().apply(cycle);
+	}
+	/**
+	 * Gets the section that the property is in, or the section itself if
+	 * the key is of a section.
+	 *
+	 * @param key the key of the property or of the section
+	 * @return the section; {@code null} if there is none
+	 */
+	public FancySectionProperty getSection(String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return (entry == null) ? null : entry.section();
+	}
+	public boolean hasProperty(String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return entry != null && !entry.isSection();
+	}
+	/**
+	 * Gets the class of the property that is made for the key.
+	 *
+	 * @param key the property's key
+	 * @return the property's class; {@code null} if there is no property
+	 * with the key or if it was added through {@link Builder#property}
+	 */
+	public Class<?> getPropertyType(String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return (entry == null) ? null : entry.type();
+	}
+	/**
+	 * Gets the lowest value that the property can have.
+	 *
+	 * @param key the property's key
+	 * @return the lowest value; {@code null} if the property has none
+	 */
+	public Object getMinimum(String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return (entry == null) ? null : entry.minimum();
+	}
+	/**
+	 * Gets the highest value that the property can have.
+	 *
+	 * @param key the property's key
+	 * @return the highest value; {@code null} if the property has none
+	 */
+	public Object getMaximum(String key)
+	{
+		final Entry<C> entry = this.entriesByKey.get(key);
+		return (entry == null) ? null : entry.maximum();
+	}
+	/**
+	 * Gets the amount of properties, not counting the sections.
+	 */
+	public int getPropertyCount() {
+		return this.propertyCount;
+	}
+
+	/**
+	 * Either a section or a property.
+	 *
+	 * @param key the key of the property or of the section
+	 * @param section the section itself or the one that the property is in;
+	 * {@code null} if the property is not in any
+	 * @param type the class of the property; {@code null} for sections and
+	 * for properties that are made by a function of their own
+	 * @param minimum the lowest value of the property; {@code null} if none
+	 * @param maximum the highest value of the property; {@code null} if none
+	 * @param property creates the property from a cycle; {@code null} for
+	 * sections
+	 */
+	private record Entry<C>(String key, FancySectionProperty section, Class<?> type, Object minimum, Object maximum,
+		Function<C, ? extends BaseProperty<?, ?>> property)
+	{
+		boolean isSection() {
+			return this.property == null;
+		}
+	}
+
+	@Environment(EnvType.CLIENT)
+	public static final class Builder<C extends DayNightCycleBasis>
+	{
+		private final List<Entry<C>> entries = new ArrayList<>();
+		private final Map<String, Entry<C>> entriesByKey = new HashMap<>();
+
+		private FancySectionProperty currentSection = null;
+		private int propertyCount = 0;
+
+		private Builder() {}
+
+		/**
+		 * Starts a section; every property added after it is in it.
+		 *
+		 * @param key the section's key
+		 * @param translationKey the translation key of the section's title
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> section(String key, String translationKey)
+		{
+			this.currentSection = new FancySectionProperty(key, new TranslatableText(translationKey));
+			return this.add(new Entry<>(key, this.currentSection, null, null, null, null));
+		}
+		/**
+		 * Adds a {@link LongValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param min the lowest value; {@code null} for none
+		 * @param max the highest value; {@code null} for none
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> longProperty(String key, ToLongFunction<C> value, Long min, Long max) {
+			return this.addProperty(key, LongValue.class, min, max, cycle -> new LongValue(key, value.applyAsLong(cycle), min, max));
+		}
+		/**
+		 * Adds an {@link IntValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param min the lowest value; {@code null} for none
+		 * @param max the highest value; {@code null} for none
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> intProperty(String key, ToIntFunction<C> value, Integer min, Integer max) {
+			return this.addProperty(key, IntValue.class, min, max, cycle -> new IntValue(key, value.applyAsInt(cycle), min, max));
+		}
+		/**
+		 * Adds a {@link DoubleValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param min the lowest value; {@code null} for none
+		 * @param max the highest value; {@code null} for none
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> doubleProperty(String key, ToDoubleFunction<C> value, Double min, Double max) {
+			return this.addProperty(key, DoubleValue.class, min, max, cycle -> new DoubleValue(key, value.applyAsDouble(cycle), min, max));
+		}
+		/**
+		 * Adds a {@link BooleanValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> booleanProperty(String key, Predicate<C> value) {
+			return this.addProperty(key, BooleanValue.class, null, null, cycle -> new BooleanValue(key, value.test(cycle)));
+		}
+		/**
+		 * Adds a {@link StringValue} to the current section which keeps the
+		 * game's default length.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param defaultValue the default value; {@code null} to use the
+		 * cycle's current value
+		 * @param allowEmptyText see {@link StringValue#setEmptyTextAllowance(boolean)}
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> stringProperty(String key, Function<C, String> value, String defaultValue, boolean allowEmptyText)
+		{
+			return this.addProperty(key, StringValue.class, null, null, cycle -> 
+			{
+				final String currentValue = value.apply(cycle);
+				return new StringValue(key, currentValue, (defaultValue == null) ? currentValue : defaultValue)
+					.setEmptyTextAllowance(allowEmptyText);
+			});
+		}
+		/**
+		 * Adds a {@link StringValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param defaultValue the default value; {@code null} to use the
+		 * cycle's current value
+		 * @param allowEmptyText see {@link StringValue#setEmptyTextAllowance(boolean)}
+		 * @param maxLength the most characters that it can hold; kept as 
+		 * the highest value
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> stringProperty(String key, Function<C, String> value, String defaultValue, boolean allowEmptyText, int maxLength)
+		{
+			return this.addProperty(key, StringValue.class, null, maxLength, cycle -> 
+			{
+				final String currentValue = value.apply(cycle);
+				return new StringValue(key, currentValue, (defaultValue == null) ? currentValue : defaultValue)
+					.setEmptyTextAllowance(allowEmptyText).setMaxLength(maxLength);
+			});
+		}
+		/**
+		 * Adds an {@link EnumValue} to the current section.
+		 *
+		 * @param key the property's key
+		 * @param value gets the cycle's current value
+		 * @param defaultValue the default value
+		 * @param values the values that can be chosen from; kept as they are
+		 * rather than copied, so pass a cached array
+		 * @param valueToText see {@link EnumValue#setVTT(Function)}
+		 *
+		 * @return this builder
+		 */
+		public <E extends Enum<E>> Builder<C> enumProperty(String key, Function<C, E> value, E defaultValue, E[] values,
+			Function<E, Text> valueToText)
+		{
+			return this.addProperty(key, EnumValue.class, null, null, 
+				cycle -> new EnumValue<>(key, value.apply(cycle), defaultValue, values).setVTT(valueToText));
+		}
+		/**
+		 * Adds a property to the current section which is made by a function
+		 * of its own, for properties that none of the other methods make.
+		 *
+		 * @param key the property's key, which has to be the same as the one
+		 * of the properties that are created
+		 * @param property creates the property with the cycle's current value
+		 *
+		 * @return this builder
+		 */
+		public Builder<C> property(String key, Function<C, ? extends BaseProperty<?, ?>> property) {
+			return this.addProperty(key, null, null, null, property);
+		}
+
+		private Builder<C> addProperty(String key, Class<?> type, Object minimum, Object maximum, 
+			Function<C, ? extends BaseProperty<?, ?>> property)
+		{
+			++this.propertyCount;
+			return this.add(new Entry<>(key, this.currentSection, type, minimum, maximum, property));
+		}
+
+		private Builder<C> add(Entry<C> entry)
+		{
+			if (this.entriesByKey.putIfAbsent(entry.key(), entry) != null)
+				throw new IllegalArgumentException("The key '" + entry.key() + "' is already in the schema");
+
+			this.entries.add(entry);
+
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		public CyclePropertySchema<C> build()
+		{
+			return new CyclePropertySchema<>(this.entries.toArray(new Entry[0]),
+				Map.copyOf(this.entriesByKey), this.propertyCount);
+		}
+	}
+}
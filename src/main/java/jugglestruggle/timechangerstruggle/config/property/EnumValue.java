@@ -12,6 +12,7 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.io.IOException;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +29,9 @@ import net.minecraft.client.gui.widget.CyclingButtonWidget;
 import com.google.common.collect.ImmutableSet;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.context.CommandContext;
@@ -163,9 +167,36 @@ public class EnumValue<EV extends Enum<EV>> extends BaseProperty<EnumValue<EV>,
 		if (!prim.isString())
 			return;
 		
-		String valueName = prim.getAsString();
-		EV obtainedValue = null;
+		EV obtainedValue = this.getValueFromName(prim.getAsString());
 		
+		if (obtainedValue != null)
+			this.set(obtainedValue);
+	}
+
+	@Override
+	public JsonElement writeToJson() {
+		return new JsonPrimitive(this.getNameToWrite());
+	}
+	
+	@Override
+	public void readFromJson(JsonReader reader) throws IOException
+	{
+		if (reader.peek() != JsonToken.STRING) {
+			reader.skipValue(); return;
+		}
+		
+		EV obtainedValue = this.getValueFromName(reader.nextString());
+		
+		if (obtainedValue != null)
+			this.set(obtainedValue);
+	}
+	@Override
+	public void writeToJson(JsonWriter writer) throws IOException {
+		writer.name(this.propertyKey).value(this.getNameToWrite());
+	}
+	
+	private EV getValueFromName(String valueName)
+	{
 		if (this.readableFunc == null)
 		{
 			// At the moment, it is not known how to retrieve
@@ -174,20 +205,17 @@ public class EnumValue<EV extends Enum<EV>> extends BaseProperty<EnumValue<EV>,
 			// has for us.
 			for (EV value : this.enumValues) {
 				if (valueName.equals(value.name())) {
-					obtainedValue = value; break;
+					return value;
 				}
 			}
+			
+			return null;
 		}
 		else {
-			obtainedValue = this.readableFunc.applyLeft(valueName);
+			return this.readableFunc.applyLeft(valueName);
 		}
-		
-		if (obtainedValue != null)
-			this.set(obtainedValue);
 	}
-
-	@Override
-	public JsonElement writeToJson()
+	private String getNameToWrite()
 	{
 		EV enumToWriteTo;
 		
@@ -201,10 +229,10 @@ public class EnumValue<EV extends Enum<EV>> extends BaseProperty<EnumValue<EV>,
 			String namedProp = this.readableFunc.applyRight(enumToWriteTo);
 			
 			if (namedProp != null && !(namedProp.isEmpty() || namedProp.isBlank()))
-				return new JsonPrimitive(namedProp);
+				return namedProp;
 		}
 		
-		return new JsonPrimitive(enumToWriteTo.name());
+		return enumToWriteTo.name();
 	}
 
 	@Override
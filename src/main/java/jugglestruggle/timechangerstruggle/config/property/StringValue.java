@@ -10,6 +10,7 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
 
+import java.io.IOException;
 import java.util.Locale;
 
 import net.minecraft.text.Text;
@@ -17,6 +18,9 @@ import net.minecraft.text.TranslatableText;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
@@ -32,6 +36,11 @@ import com.mojang.brigadier.context.CommandContext;
 public class StringValue extends BaseProperty<StringValue, String>
 {
 	protected boolean allowEmptyText;
+	/**
+	 * The most characters that the text field can hold; the game's text 
+	 * fields hold 32 unless told otherwise.
+	 */
+	protected int maxLength = 32;
 	
 	public StringValue(String propertyName, String value) {
 		super(propertyName, value);
@@ -62,6 +71,12 @@ public class StringValue extends BaseProperty<StringValue, String>
 	public StringValue setEmptyTextAllowance(boolean allow) {
 		this.allowEmptyText = allow; return this;
 	}
+	public int getMaxLength() {
+		return this.maxLength;
+	}
+	public StringValue setMaxLength(int maxLength) {
+		this.maxLength = maxLength; return this;
+	}
 	
 	@Override
 	public void readFromJson(JsonElement elem) 
@@ -81,16 +96,38 @@ public class StringValue extends BaseProperty<StringValue, String>
 		}
 	}
 	@Override
-	public JsonElement writeToJson()
+	public JsonElement writeToJson() {
+		return new JsonPrimitive(this.getTextToWrite());
+	}
+	
+	@Override
+	public void readFromJson(JsonReader reader) throws IOException
+	{
+		if (reader.peek() != JsonToken.STRING) {
+			reader.skipValue(); return;
+		}
+		
+		String s = reader.nextString();
+		
+		if (this.isEmptyTextAllowed() || !(s.isEmpty() || s.isBlank())) {
+			this.set(s);
+		}
+	}
+	@Override
+	public void writeToJson(JsonWriter writer) throws IOException {
+		writer.name(this.propertyKey).value(this.getTextToWrite());
+	}
+	
+	private String getTextToWrite()
 	{
 		String s = this.get();
 		
 		if (this.isEmptyTextAllowed()) {
-			return new JsonPrimitive(s == null ? "" : s);
+			return s == null ? "" : s;
 		} else if (!(s.isEmpty() || s.isBlank())) {
-			return new JsonPrimitive(s);
+			return s;
 		} else {
-			return new JsonPrimitive(this.getDefaultValue());
+			return this.getDefaultValue();
 		}
 	}
 	
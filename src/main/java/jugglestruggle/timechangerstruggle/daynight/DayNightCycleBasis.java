@@ -4,8 +4,12 @@ import jugglestruggle.timechangerstruggle.client.config.property.FancySectionPro
 import jugglestruggle.timechangerstruggle.client.config.widget.WidgetConfigInterface;
 import jugglestruggle.timechangerstruggle.client.screen.TimeChangerScreen;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
 import jugglestruggle.timechangerstruggle.config.property.IntValue;
 import jugglestruggle.timechangerstruggle.config.property.StringValue;
+import jugglestruggle.timechangerstruggle.daynight.simulation.ClientCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleSimulator;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -39,7 +43,8 @@ public interface DayNightCycleBasis
 	 * property in any capacity as it just overrides a getter
 	 * to apply its own.
 	 * 
-	 * @param world the client world getting the modified time
+	 * @param world the client world getting the modified time; 
+	 *         {@code null} when the cycle is being simulated
 	 * @param executor the part of the code that called the time
 	 * @param previous the last modified time, primarily used 
 	 *                  for ticking
@@ -48,6 +53,25 @@ public interface DayNightCycleBasis
 	 */
 	long getModifiedTime(ClientWorld world, DayNightGetterType executor, boolean previous);
 	
+	/**
+	 * Gets what works out the time in between the previous and the current
+	 * tick, for cycles whose time follows something that keeps on moving 
+	 * while frames are rendered in between ticks (like the camera).
+	 * 
+	 * <p> It is kept in the world's {@link DayNightTimeSnapshot} and may be
+	 * called from any thread, so it has to hold on to whatever it needs 
+	 * rather than reading the cycle.
+	 * 
+	 * @param world the client world which is currently ticking
+	 * @param executor the part of the code that called the time
+	 * 
+	 * @return the time in between ticks; {@code null} if it is simply the
+	 * time of {@link #getModifiedTime}, which it is by default
+	 */
+	default DayNightTimeSnapshot.BetweenTicks getTimeBetweenTicks(ClientWorld world, DayNightGetterType executor) {
+		return null;
+	}
+	
 	/**
 	 * Returns the cached time provided by the cycle itself. 
 	 * 
@@ -73,6 +97,37 @@ public interface DayNightCycleBasis
 	 */
 	default void tick() {}
 	
+	/**
+	 * Moves the cycle forward as if {@link #tick()} was called as many 
+	 * times as the ticks given; used to see where the cycle will be later 
+	 * on without having to wait for it.
+	 * 
+	 * <p> By default it does call {@link #tick()} that many times. Cycles 
+	 * that can work out where they end up without going through every tick 
+	 * should override it.
+	 * 
+	 * @param ticks how many ticks to move forward; nothing is done if it 
+	 *         is not above {@code 0}
+	 */
+	default void seek(long ticks) 
+	{
+		for (long i = 0L; i < ticks; ++i)
+			this.tick();
+	}
+	
+	/**
+	 * Gives the cycle the environment that it should read the clock,
+	 * the camera and the world from rather than asking the game directly.
+	 * 
+	 * <p> Cycles start out using {@link ClientCycleEnvironment}; this is
+	 * mostly changed by the {@link CycleSimulator} to run them headless.
+	 * Cycles that do not rely on anything outside of themselves can 
+	 * ignore it.
+	 * 
+	 * @param environment the environment to use from now on
+	 */
+	default void setEnvironment(CycleEnvironment environment) {}
+	
 	/**
 	 * By default when rendering the "date over ticks" option,
 	 * add a day to represent the next day. This is mostly buggy
@@ -125,6 +180,10 @@ public interface DayNightCycleBasis
 	 * and then get its property name and apply the value to avoid 
 	 * crash problems and it is also quicker that way.
 	 * 
+	 * <p>The built-in cycles instead pass the property on to their 
+	 * {@link CyclePropertyBindings}, which resolves the property's key 
+	 * to its setter only once rather than on every write.
+	 * 
 	 * @param <B> the base property, usually represents a type, 
 	 *             like {@link StringValue} or {@link IntValue}
 	 * @param <V> the type used from the property itself, like
@@ -133,6 +192,49 @@ public interface DayNightCycleBasis
 //	default <B extends BaseProperty<B, V>, V> void writePropertyValueToCycle(B property) { }
 	default void writePropertyValueToCycle(BaseProperty<?, ?> property) { }
 	
+	/**
+	 * Starts a batch of property writes. Whatever the cycle works out 
+	 * again after a property is written (like re-rolling a random value)
+	 * is instead left for {@link #commitPropertyUpdate()} to do only once, 
+	 * no matter how many of the related properties were written.
+	 * 
+	 * <p> Batches can be nested; only the outermost commit does the work.
+	 * Every call has to be paired with a commit, preferably in a 
+	 * {@code finally} block.
+	 * 
+	 * <p> Cycles which have nothing to work out can leave both alone.
+	 */
+	default void beginPropertyUpdate() {}
+	/**
+	 * Ends a batch started by {@link #beginPropertyUpdate()} and works 
+	 * out what the properties written during the batch asked for.
+	 */
+	default void commitPropertyUpdate() {}
+	
+	/**
+	 * Writes every property back to the cycle in a single batch; sections
+	 * are skipped.
+	 * 
+	 * @param properties the properties to write
+	 */
+	default void writePropertyValuesToCycle(Iterable<? extends BaseProperty<?, ?>> properties)
+	{
+		this.beginPropertyUpdate();
+		
+		try
+		{
+			for (BaseProperty<?, ?> property : properties)
+			{
+				if (!(property instanceof FancySectionProperty))
+					this.writePropertyValueToCycle(property);
+			}
+		}
+		finally
+		{
+			this.commitPropertyUpdate();
+		}
+	}
+	
 	/**
 	 * Rearranges {@link #createProperties()}'s given elements to 
 	 * a daylight cycle's own version of the rearrangement. This
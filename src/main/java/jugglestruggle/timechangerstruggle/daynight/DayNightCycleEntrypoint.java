@@ -0,0 +1,37 @@
+package jugglestruggle.timechangerstruggle.daynight;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+/**
+ * Lets other mods add their own cycles. Declare the class under the
+ * {@value #KEY} entrypoint in {@code fabric.mod.json}:
+ *
+ * <pre>
+ * "entrypoints": {
+ *   "daylightchangerstruggle:cycles": ["my.mod.MyCycles"]
+ * }
+ * </pre>
+ *
+ * <p> It is called once while the game loads, after the built-in cycles
+ * are registered and before the commands and the configuration are. The
+ * cycles should be registered as {@link LazyDayNightCycleBuilder}s so that
+ * nothing of them is loaded unless they are used.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+@FunctionalInterface
+public interface DayNightCycleEntrypoint
+{
+	String KEY = "daylightchangerstruggle:cycles";
+
+	/**
+	 * Registers the mod's cycles.
+	 *
+	 * @param registry the registry to register to; cycles whose key name
+	 * is already registered are ignored
+	 */
+	void registerCycles(DayNightCycleRegistry registry);
+}
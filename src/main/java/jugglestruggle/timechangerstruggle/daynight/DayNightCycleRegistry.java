@@ -0,0 +1,218 @@
+package jugglestruggle.timechangerstruggle.daynight;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The cycle builders in the order that they were registered in, indexed
+ * by their key names, by the classes of the builders and by their
+ * positions.
+ *
+ * <p> Everything that is asked for while the game runs (getting the
+ * builder of a cycle, going to the next or previous cycle) is a lookup;
+ * the work of keeping the indices is all done when a builder is
+ * registered, which only happens while the game loads.
+ *
+ * <p> {@link LazyDayNightCycleBuilder}s are indexed by the class of their
+ * actual builder once it is made, which is always before any of its cycles
+ * exist to ask for it.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class DayNightCycleRegistry
+{
+	private DayNightCycleBuilder[] builders;
+	/**
+	 * The position of the builder that comes after the builder at the same
+	 * position, wrapping around to the first one.
+	 */
+	private int[] nextIndices;
+	/**
+	 * The position of the builder that comes before the builder at the same
+	 * position, wrapping around to the last one.
+	 */
+	private int[] previousIndices;
+
+	private final Map<String, Integer> indicesByKey;
+	private final Map<Class<?>, DayNightCycleBuilder> buildersByClass;
+
+	private final List<DayNightCycleBuilder> buildersView;
+
+	public DayNightCycleRegistry(int expectedBuilders)
+	{
+		this.builders = new DayNightCycleBuilder[0];
+		this.nextIndices = new int[0];
+		this.previousIndices = new int[0];
+
+		this.indicesByKey = new HashMap<>(expectedBuilders);
+		this.buildersByClass = new IdentityHashMap<>(expectedBuilders);
+
+		this.buildersView = new BuildersView();
+	}
+
+	/**
+	 * Registers the builder after every other builder.
+	 *
+	 * @param builder the builder to register
+	 * @return {@code true} if it was registered; {@code false} if there is
+	 * already a builder with the same key name
+	 */
+	public boolean register(DayNightCycleBuilder builder)
+	{
+		final String key = builder.getKeyName();
+
+		if (key == null || this.indicesByKey.containsKey(key))
+			return false;
+
+		final int index = this.builders.length;
+		final int size = index + 1;
+
+		this.builders = Arrays.copyOf(this.builders, size);
+		this.builders[index] = builder;
+
+		this.indicesByKey.put(key, index);
+
+		if (builder instanceof LazyDayNightCycleBuilder lazyBuilder)
+		{
+			lazyBuilder.registry = this;
+
+			if (lazyBuilder.isBuilderMade())
+				this.onBuilderMade(lazyBuilder);
+		}
+		else
+			this.buildersByClass.putIfAbsent(builder.getClass(), builder);
+
+		// Only the links next to the new builder change, but it is simpler to
+		// make them again and there are never that many builders anyways
+		this.nextIndices = new int[size];
+		this.previousIndices = new int[size];
+
+		for (int i = 0; i < size; ++i)
+		{
+			this.nextIndices[i] = (i + 1) % size;
+			this.previousIndices[i] = (i + size - 1) % size;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Indexes the lazy builder by the class of its actual builder, which
+	 * its cycles give in {@link DayNightCycleBasis#getBuilderClass()}.
+	 */
+	void onBuilderMade(LazyDayNightCycleBuilder lazyBuilder) {
+		this.buildersByClass.putIfAbsent(lazyBuilder.getBuilder().getClass(), lazyBuilder);
+	}
+
+	public int size() {
+		return this.builders.length;
+	}
+	public boolean contains(String key) {
+		return key != null && this.indicesByKey.containsKey(key);
+	}
+	/**
+	 * Gets the position of the builder.
+	 *
+	 * @param key the key name of the builder
+	 * @return the position; {@code -1} if there is no builder with the key
+	 */
+	public int indexOf(String key)
+	{
+		final Integer index = (key == null) ? null : this.indicesByKey.get(key);
+		return (index == null) ? -1 : index;
+	}
+
+	public DayNightCycleBuilder get(int index) {
+		return this.builders[index];
+	}
+	/**
+	 * Gets the builder with the key name.
+	 *
+	 * @param key the key name of the builder
+	 * @return the builder; {@code null} if there is none
+	 */
+	public DayNightCycleBuilder get(String key)
+	{
+		final int index = this.indexOf(key);
+		return (index < 0) ? null : this.builders[index];
+	}
+	/**
+	 * Gets the builder whose class is exactly the one given, which is what
+	 * the cycles give in {@link DayNightCycleBasis#getBuilderClass()}.
+	 *
+	 * @param builderClass the class of the builder
+	 * @return the builder; {@code null} if there is none
+	 */
+	public DayNightCycleBuilder getByBuilderClass(Class<?> builderClass) {
+		return (builderClass == null) ? null : this.buildersByClass.get(builderClass);
+	}
+
+	/**
+	 * Gets the builder that comes after the one with the key name, wrapping
+	 * around to the first one.
+	 *
+	 * @param key the key name of the builder; if it is {@code null} or of
+	 * no builder then the first builder is given
+	 *
+	 * @return the builder; {@code null} if there are no builders
+	 */
+	public DayNightCycleBuilder next(String key)
+	{
+		if (this.builders.length == 0)
+			return null;
+
+		final int index = this.indexOf(key);
+		return this.builders[(index < 0) ? 0 : this.nextIndices[index]];
+	}
+	/**
+	 * Gets the builder that comes before the one with the key name,
+	 * wrapping around to the last one.
+	 *
+	 * @param key the key name of the builder; if it is {@code null} or of
+	 * no builder then the last builder is given
+	 *
+	 * @return the builder; {@code null} if there are no builders
+	 */
+	public DayNightCycleBuilder previous(String key)
+	{
+		final int size = this.builders.length;
+
+		if (size == 0)
+			return null;
+
+		final int index = this.indexOf(key);
+		return this.builders[(index < 0) ? size - 1 : this.previousIndices[index]];
+	}
+
+	/**
+	 * Gets every builder in the order that they were registered in.
+	 *
+	 * @return an unmodifiable view of the builders which also sees the
+	 * builders registered later on
+	 */
+	public List<DayNightCycleBuilder> getBuilders() {
+		return this.buildersView;
+	}
+
+	private final class BuildersView extends AbstractList<DayNightCycleBuilder> implements RandomAccess
+	{
+		@Override
+		public DayNightCycleBuilder get(int index) {
+			return DayNightCycleRegistry.this.builders[index];
+		}
+		@Override
+		public int size() {
+			return DayNightCycleRegistry.this.builders.length;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package jugglestruggle.timechangerstruggle.daynight;
+
+import jugglestruggle.timechangerstruggle.mixin.client.world.ClientWorldMixin;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import net.minecraft.client.world.ClientWorld;
+
+/**
+ * An immutable capture of the times that a daylight cycle provides for
+ * a single tick.
+ *
+ * <p> It is published once per world tick so that all of the time-related
+ * getters in {@link ClientWorldMixin} (sky, fog, lightmap, celestial
+ * rendering, clouds and the clock item) can read the same values without
+ * having to ask the cycle over and over again within the same frame.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class DayNightTimeSnapshot
+{
+	public final long timeOfDay;
+	public final long previousTimeOfDay;
+
+	public final long lunarTime;
+	public final long previousLunarTime;
+	/**
+	 * Works out the lunar time in between the previous and the current
+	 * tick; {@code null} if the cycle's time only changes on ticks.
+	 */
+	public final BetweenTicks lunarTimeBetweenTicks;
+
+	public DayNightTimeSnapshot(long timeOfDay, long previousTimeOfDay, long lunarTime, long previousLunarTime) {
+		this(timeOfDay, previousTimeOfDay, lunarTime, previousLunarTime, null);
+	}
+	public DayNightTimeSnapshot(long timeOfDay, long previousTimeOfDay, long lunarTime, long previousLunarTime,
+		BetweenTicks lunarTimeBetweenTicks)
+	{
+		this.timeOfDay = timeOfDay;
+		this.previousTimeOfDay = previousTimeOfDay;
+
+		this.lunarTime = lunarTime;
+		this.previousLunarTime = previousLunarTime;
+		this.lunarTimeBetweenTicks = lunarTimeBetweenTicks;
+	}
+
+	/**
+	 * Gets the time of day using the same combinations as the getters
+	 * on {@link ClientWorldMixin} expects.
+	 *
+	 * @param executor the part of the code that called the time
+	 * @param previous {@code true} to get the previous tick's time
+	 *
+	 * @return a {@code long} value representing the game time
+	 */
+	public long get(DayNightGetterType executor, boolean previous)
+	{
+		if (executor == DayNightGetterType.LUNAR)
+			return previous ? this.previousLunarTime : this.lunarTime;
+		else
+			return previous ? this.previousTimeOfDay : this.timeOfDay;
+	}
+
+	/**
+	 * Asks the cycle for all of its times and stores them in a snapshot.
+	 *
+	 * @param cycle the daylight cycle to capture from
+	 * @param world the client world which is currently ticking
+	 *
+	 * @return a snapshot of the cycle's times
+	 */
+	public static DayNightTimeSnapshot capture(DayNightCycleBasis cycle, ClientWorld world)
+	{
+		return new DayNightTimeSnapshot
+		(
+			cycle.getModifiedTime(world, DayNightGetterType.DEFAULT, false),
+			cycle.getModifiedTime(world, DayNightGetterType.DEFAULT, true),
+			cycle.getModifiedTime(world, DayNightGetterType.LUNAR, false),
+			cycle.getModifiedTime(world, DayNightGetterType.LUNAR, true),
+			cycle.getTimeBetweenTicks(world, DayNightGetterType.LUNAR)
+		);
+	}
+
+	/**
+	 * Works out a cycle's time at any point in between two ticks.
+	 *
+	 * @see DayNightCycleBasis#getTimeBetweenTicks
+	 */
+	@FunctionalInterface
+	public static interface BetweenTicks
+	{
+		/**
+		 * @param tickDelta how far along it is from the previous tick
+		 * ({@code 0.0}) to the current tick ({@code 1.0})
+		 * @return the time at that point
+		 */
+		long getTime(float tickDelta);
+	}
+}
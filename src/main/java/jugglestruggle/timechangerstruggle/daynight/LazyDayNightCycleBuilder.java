@@ -0,0 +1,164 @@
+package jugglestruggle.timechangerstruggle.daynight;
+
+import jugglestruggle.timechangerstruggle.TimeChangerStruggle;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.function.Supplier;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+/**
+ * A cycle builder that is only described by what the screen, the commands
+ * and the configuration need to know about it until its cycle is used:
+ * its key name, its translation key and whether it has options.
+ *
+ * <p> The actual builder is only made the first time that a cycle is
+ * created, so neither the builder nor the cycle are loaded before then.
+ * To keep it that way, give the builder through a lambda such as
+ * {@code () -> new MyTime.Builder()} rather than a method reference, as
+ * the latter has the builder's class loaded as soon as it is made.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class LazyDayNightCycleBuilder implements DayNightCycleBuilder
+{
+	private final String keyName;
+	/**
+	 * The translation key of the cycle's name; its description is expected
+	 * to be the same key followed by {@code .description}.
+	 */
+	private final String translationKey;
+
+	private final boolean hasOptionsToEdit;
+	private final boolean hasDynamicOptions;
+
+	/**
+	 * Makes the actual builder; {@code null} once it was made.
+	 */
+	private Supplier<? extends DayNightCycleBuilder> builderFactory;
+	private DayNightCycleBuilder builder = null;
+
+	/**
+	 * The registry which has to know about the actual builder's class once
+	 * it is made; set when registered.
+	 */
+	DayNightCycleRegistry registry = null;
+
+	/**
+	 * @param keyName the key name; it has to be the same as the one of
+	 * the actual builder
+	 * @param translationKey the translation key of the cycle's name
+	 * @param hasOptionsToEdit see {@link DayNightCycleBuilder#hasOptionsToEdit()}
+	 * @param builderFactory makes the actual builder
+	 */
+	public LazyDayNightCycleBuilder(String keyName, String translationKey, boolean hasOptionsToEdit,
+		Supplier<? extends DayNightCycleBuilder> builderFactory)
+	{
+		this(keyName, translationKey, hasOptionsToEdit, false, builderFactory);
+	}
+	/**
+	 * @param keyName the key name; it has to be the same as the one of
+	 * the actual builder
+	 * @param translationKey the translation key of the cycle's name
+	 * @param hasOptionsToEdit see {@link DayNightCycleBuilder#hasOptionsToEdit()}
+	 * @param hasDynamicOptions see {@link DayNightCycleBuilder#hasDynamicOptions()}
+	 * @param builderFactory makes the actual builder
+	 */
+	public LazyDayNightCycleBuilder(String keyName, String translationKey, boolean hasOptionsToEdit,
+		boolean hasDynamicOptions, Supplier<? extends DayNightCycleBuilder> builderFactory)
+	{
+		this.keyName = keyName;
+		this.translationKey = translationKey;
+
+		this.hasOptionsToEdit = hasOptionsToEdit;
+		this.hasDynamicOptions = hasDynamicOptions;
+
+		this.builderFactory = builderFactory;
+	}
+
+	@Override
+	public DayNightCycleBasis create() {
+		return this.getBuilder().create();
+	}
+
+	@Override
+	public String getKeyName() {
+		return this.keyName;
+	}
+
+	@Override
+	public Text getTranslatableName() {
+		return new TranslatableText(this.translationKey);
+	}
+	@Override
+	public Text getTranslatableDescription() {
+		return new TranslatableText(this.translationKey + ".description");
+	}
+
+	@Override
+	public boolean hasOptionsToEdit() {
+		return this.hasOptionsToEdit;
+	}
+	@Override
+	public boolean hasDynamicOptions() {
+		return this.hasDynamicOptions;
+	}
+
+	/**
+	 * Gets the actual builder, making it if it was not made yet.
+	 */
+	public DayNightCycleBuilder getBuilder()
+	{
+		if (this.builder == null)
+		{
+			this.builder = this.builderFactory.get();
+			this.builderFactory = null;
+
+			this.checkBuilderMatches();
+
+			if (this.registry != null)
+				this.registry.onBuilderMade(this);
+		}
+
+		return this.builder;
+	}
+	/**
+	 * Logs an error if the actual builder does not describe itself the same
+	 * way as this one does, since what is registered and stored is keyed by
+	 * what this one says rather than the actual builder.
+	 */
+	private void checkBuilderMatches()
+	{
+		final String builderKeyName = this.builder.getKeyName();
+
+		if (!this.keyName.equals(builderKeyName))
+		{
+			TimeChangerStruggle.LOGGER.error("The cycle builder {} has the key name \"{}\" but was registered as \"{}\"",
+				this.builder.getClass().getName(), builderKeyName, this.keyName);
+		}
+
+		if (this.builder.getTranslatableName() instanceof TranslatableText name && !this.translationKey.equals(name.getKey()))
+		{
+			TimeChangerStruggle.LOGGER.error("The cycle builder {} has the translation key \"{}\" but was registered with \"{}\"",
+				this.builder.getClass().getName(), name.getKey(), this.translationKey);
+		}
+
+		if (this.builder.hasOptionsToEdit() != this.hasOptionsToEdit || this.builder.hasDynamicOptions() != this.hasDynamicOptions)
+		{
+			TimeChangerStruggle.LOGGER.error("The cycle builder {} does not have the same options as it was registered with",
+				this.builder.getClass().getName());
+		}
+	}
+	/**
+	 * Checks if the actual builder was made, which is only after the first
+	 * cycle was created.
+	 */
+	public boolean isBuilderMade() {
+		return this.builder != null;
+	}
+}
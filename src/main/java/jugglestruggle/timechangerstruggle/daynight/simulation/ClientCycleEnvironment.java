@@ -0,0 +1,57 @@
+package jugglestruggle.timechangerstruggle.daynight.simulation;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.TimeZone;
+
+import net.minecraft.entity.Entity;
+
+import net.minecraft.client.MinecraftClient;
+
+/**
+ * The environment used while in-game; it reads everything from the
+ * client itself.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public final class ClientCycleEnvironment implements CycleEnvironment
+{
+	public static final ClientCycleEnvironment INSTANCE = new ClientCycleEnvironment();
+	
+	private ClientCycleEnvironment() {}
+	
+	@Override
+	public long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+	@Override
+	public TimeZone getTimeZone() {
+		return TimeZone.getDefault();
+	}
+	@Override
+	public double getCameraY()
+	{
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		if (client == null)
+			return Double.NaN;
+		
+		final Entity camEntity = client.getCameraEntity();
+		return camEntity == null ? Double.NaN : camEntity.getY();
+	}
+	@Override
+	public long getWorldTimeOfDay()
+	{
+		final MinecraftClient client = MinecraftClient.getInstance();
+		
+		// The world's getter is overridden to return the cycle's time so go
+		// through the properties instead
+		if (client == null || client.world == null)
+			return 0L;
+		
+		return client.world.getLevelProperties().getTimeOfDay();
+	}
+}
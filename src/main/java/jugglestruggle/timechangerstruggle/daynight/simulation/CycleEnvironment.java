@@ -0,0 +1,51 @@
+package jugglestruggle.timechangerstruggle.daynight.simulation;
+
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+
+import java.util.TimeZone;
+
+/**
+ * Everything that a daylight cycle might want to know about the world
+ * around it, so that it doesn't have to reach into the game by itself.
+ *
+ * <p> The game uses {@link ClientCycleEnvironment} while the
+ * {@link CycleSimulator} uses a {@link SimulatedCycleEnvironment} which
+ * lets cycles run without a client at all.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ * 
+ * @see DayNightCycleBasis#setEnvironment(CycleEnvironment)
+ */
+public interface CycleEnvironment
+{
+	/**
+	 * Gets the wall-clock time, just like {@link System#currentTimeMillis()}.
+	 * 
+	 * @return the time in milliseconds since the epoch
+	 */
+	long currentTimeMillis();
+	
+	/**
+	 * Gets the time zone that wall-clock based cycles should use.
+	 * 
+	 * @return a time zone; never {@code null}
+	 */
+	TimeZone getTimeZone();
+	
+	/**
+	 * Gets the height of whatever is currently viewing the world.
+	 * 
+	 * @return the Y position or {@link Double#NaN} if there is nothing
+	 * that views the world (like when there is no world loaded)
+	 */
+	double getCameraY();
+	
+	/**
+	 * Gets the world's own time of day, which is the time that the server
+	 * has sent and not the one that any cycle has modified.
+	 * 
+	 * @return the time of day in ticks
+	 */
+	long getWorldTimeOfDay();
+}
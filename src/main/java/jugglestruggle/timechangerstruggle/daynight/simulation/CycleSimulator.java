@@ -0,0 +1,172 @@
+package jugglestruggle.timechangerstruggle.daynight.simulation;
+
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Runs a daylight cycle for a given amount of ticks without a client or
+ * a world, storing the time it gives on every tick or only the first and
+ * the last of them.
+ *
+ * <p> It is meant to profile and compare cycles (and their options) as
+ * fast as they can tick; the time it took and how much memory was
+ * allocated while ticking are measured alongside.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public final class CycleSimulator
+{
+	private CycleSimulator() {}
+	
+	/**
+	 * Creates a new cycle from its builder and runs it.
+	 * 
+	 * @see #run(DayNightCycleBasis, SimulatedCycleEnvironment, int)
+	 */
+	public static Result run(DayNightCycleBuilder builder, SimulatedCycleEnvironment environment, int ticks) 
+	{
+		final DayNightCycleBasis cycle = builder.create();
+		cycle.setEnvironment(environment);
+		
+		return CycleSimulator.run(cycle, environment, ticks);
+	}
+	/**
+	 * Runs an existing cycle, which is given the environment to use
+	 * before any of the ticks are done.
+	 * 
+	 * @param cycle the cycle to tick
+	 * @param environment the environment that is moved along with the ticks
+	 * @param ticks how many ticks to simulate
+	 * 
+	 * @return the times on every tick and the measurements
+	 */
+	public static Result run(DayNightCycleBasis cycle, SimulatedCycleEnvironment environment, int ticks) {
+		return CycleSimulator.run(cycle, environment, ticks, true);
+	}
+	/**
+	 * Runs an existing cycle, which is given the environment to use
+	 * before any of the ticks are done.
+	 * 
+	 * <p> The time is read through {@link DayNightCycleBasis#getCachedTime()}
+	 * as there is no world to give to the cycle.
+	 * 
+	 * @param cycle the cycle to tick
+	 * @param environment the environment that is moved along with the ticks
+	 * @param ticks how many ticks to simulate
+	 * @param keepEveryTime {@code true} to keep the time of every tick; 
+	 * {@code false} to only keep the first and the last, which does not
+	 * allocate anything for as many ticks as there are
+	 * 
+	 * @return the times and the measurements
+	 */
+	public static Result run(DayNightCycleBasis cycle, SimulatedCycleEnvironment environment, int ticks, boolean keepEveryTime)
+	{
+		cycle.setEnvironment(environment);
+		
+		ticks = Math.max(0, ticks);
+		
+		final long[] times = keepEveryTime ? new long[ticks] : null;
+		
+		long firstTime = 0L;
+		long lastTime = 0L;
+		
+		final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().getId();
+		
+		final long allocatedBefore = CycleSimulator.getAllocatedBytes(threadBean, threadId);
+		final long startTime = System.nanoTime();
+		
+		for (int i = 0; i < ticks; ++i)
+		{
+			cycle.tick();
+			lastTime = cycle.getCachedTime();
+			
+			if (i == 0)
+				firstTime = lastTime;
+			if (times != null)
+				times[i] = lastTime;
+			
+			environment.advanceTick();
+		}
+		
+		final long elapsedNanos = System.nanoTime() - startTime;
+		final long allocatedAfter = CycleSimulator.getAllocatedBytes(threadBean, threadId);
+		
+		return new Result(ticks, firstTime, lastTime, times, elapsedNanos, (allocatedBefore < 0L || allocatedAfter < 0L) ? 
+			-1L : allocatedAfter - allocatedBefore);
+	}
+	
+	/**
+	 * Gets how many bytes the thread has allocated so far; this is only
+	 * available on JVMs with HotSpot's extension of the thread bean.
+	 * 
+	 * @return the amount of bytes or {@code -1} if it's not supported
+	 */
+	private static long getAllocatedBytes(ThreadMXBean threadBean, long threadId)
+	{
+		if (threadBean instanceof com.sun.management.ThreadMXBean hotspotBean && 
+			hotspotBean.isThreadAllocatedMemorySupported() && hotspotBean.isThreadAllocatedMemoryEnabled())
+		{
+			return hotspotBean.getThreadAllocatedBytes(threadId);
+		}
+		
+		return -1L;
+	}
+	
+	public static final class Result
+	{
+		public final int ticks;
+		/**
+		 * The time that the cycle gave after the first and the last tick;
+		 * {@code 0} if there were no ticks.
+		 */
+		public final long firstTime;
+		public final long lastTime;
+		/**
+		 * The time that the cycle gave after each tick; {@code null} if 
+		 * they were not kept.
+		 */
+		public final long[] times;
+		public final long elapsedNanos;
+		/**
+		 * Amount of bytes allocated while ticking or {@code -1} if it 
+		 * could not be measured.
+		 */
+		public final long allocatedBytes;
+		
+		public Result(int ticks, long firstTime, long lastTime, long[] times, long elapsedNanos, long allocatedBytes)
+		{
+			this.ticks = ticks;
+			this.firstTime = firstTime;
+			this.lastTime = lastTime;
+			this.times = times;
+			this.elapsedNanos = elapsedNanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+		
+		public int getTicks() {
+			return this.ticks;
+		}
+		public double getNanosPerTick() {
+			return this.ticks == 0 ? 0.0 : (double)this.elapsedNanos / (double)this.ticks;
+		}
+		/**
+		 * @return the bytes allocated per tick or {@link Double#NaN} if
+		 * the allocations could not be measured
+		 */
+		public double getBytesPerTick()
+		{
+			if (this.allocatedBytes < 0L)
+				return Double.NaN;
+			
+			return this.ticks == 0 ? 0.0 : (double)this.allocatedBytes / (double)this.ticks;
+		}
+		public double getTicksPerSecond() {
+			return this.elapsedNanos == 0L ? 0.0 : (double)this.ticks * 1_000_000_000.0 / (double)this.elapsedNanos;
+		}
+	}
+}
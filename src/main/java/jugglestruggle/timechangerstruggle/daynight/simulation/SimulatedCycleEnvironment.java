@@ -0,0 +1,87 @@
+package jugglestruggle.timechangerstruggle.daynight.simulation;
+
+import java.util.TimeZone;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * An environment that is entirely driven by the {@link CycleSimulator};
+ * the clock and the world's time move by one tick whenever it is told
+ * to and the camera's height is provided for every tick.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public class SimulatedCycleEnvironment implements CycleEnvironment
+{
+	/**
+	 * How long a tick lasts on the wall clock when the game runs at a
+	 * steady 20 ticks per second.
+	 */
+	public static final long MILLIS_PER_TICK = 50L;
+	
+	private final long startMillis;
+	private final TimeZone timeZone;
+	private final long startWorldTime;
+	private final LongToDoubleFunction cameraYByTick;
+	
+	private long ticks;
+	
+	/**
+	 * @param startMillis the wall-clock time of the first tick
+	 * @param timeZone the time zone the wall-clock time is in
+	 * @param startWorldTime the world's time of day on the first tick
+	 * @param cameraYByTick gives the camera's height for the tick that
+	 * is provided; return {@link Double#NaN} to pretend that there is 
+	 * no camera
+	 */
+	public SimulatedCycleEnvironment(long startMillis, TimeZone timeZone, long startWorldTime, LongToDoubleFunction cameraYByTick)
+	{
+		this.startMillis = startMillis;
+		this.timeZone = timeZone;
+		this.startWorldTime = startWorldTime;
+		this.cameraYByTick = cameraYByTick;
+	}
+	
+	/**
+	 * Creates an environment which starts at the current time with the
+	 * camera always staying at the same height.
+	 */
+	public static SimulatedCycleEnvironment startingNow(double cameraY, long worldTime) 
+	{
+		return new SimulatedCycleEnvironment(System.currentTimeMillis(), 
+			TimeZone.getDefault(), worldTime, tick -> cameraY);
+	}
+	
+	/**
+	 * Moves the environment by one tick.
+	 */
+	public void advanceTick() {
+		++this.ticks;
+	}
+	/**
+	 * Moves the environment back to the first tick.
+	 */
+	public void reset() {
+		this.ticks = 0L;
+	}
+	public long getTicks() {
+		return this.ticks;
+	}
+	
+	@Override
+	public long currentTimeMillis() {
+		return this.startMillis + this.ticks * SimulatedCycleEnvironment.MILLIS_PER_TICK;
+	}
+	@Override
+	public TimeZone getTimeZone() {
+		return this.timeZone;
+	}
+	@Override
+	public double getCameraY() {
+		return this.cameraYByTick.applyAsDouble(this.ticks);
+	}
+	@Override
+	public long getWorldTimeOfDay() {
+		return this.startWorldTime + this.ticks;
+	}
+}
@@ -0,0 +1,399 @@
+package jugglestruggle.timechangerstruggle.daynight.type;
+
+import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.BooleanValue;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
+import jugglestruggle.timechangerstruggle.config.property.LongValue;
+import jugglestruggle.timechangerstruggle.config.property.StringValue;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.DayNightGetterType;
+import jugglestruggle.timechangerstruggle.util.EasingType;
+import jugglestruggle.timechangerstruggle.util.Easings;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+import net.minecraft.client.world.ClientWorld;
+
+/**
+ * Plays a timeline of keyframes made by the user, each saying what the
+ * time should be at a certain tick of the timeline and how to ease into
+ * the next keyframe. Once the timeline ends it either loops or stays on
+ * the last keyframe.
+ *
+ * <p> The keyframes are written as {@code tick:time[:easing[:type]]} and
+ * separated by {@code ;}, like {@code 0:1000:sine:between; 6000:13000}.
+ * Keyframes are sorted by their ticks; whatever cannot be read is skipped.
+ *
+ * <p> The keyframes are kept in arrays sorted by their ticks, so finding
+ * the keyframes around a tick is a binary search; and as ticks mostly go
+ * forward one at a time, the keyframe used last is checked before any
+ * search, which makes a tick the same cost no matter how many keyframes
+ * there are.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public class KeyframeTime implements DayNightCycleBasis
+{
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<KeyframeTime> PROPERTY_SCHEMA =
+		CyclePropertySchema.builder(KeyframeTime.class)
+		.section("timeline", "jugglestruggle.tcs.dnt.keyframetime.properties.timeline")
+		.stringProperty("keyframes", cycle -> cycle.keyframes, KeyframeTime.DEFAULT_KEYFRAMES, true, Short.MAX_VALUE)
+
+		.section("playback", "jugglestruggle.tcs.dnt.keyframetime.properties.playback")
+		.booleanProperty("loop", cycle -> cycle.loop)
+		.longProperty("loopLength", cycle -> cycle.loopLength, 0L, Long.MAX_VALUE)
+		.build();
+
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle.
+	 */
+	private static final CyclePropertyBindings<KeyframeTime> PROPERTY_BINDINGS =
+		CyclePropertyBindings.builder(KeyframeTime.class)
+		.bind("keyframes", StringValue.class, (cycle, prop) -> cycle.setKeyframes(prop.get()))
+		.bind("loop", BooleanValue.class, (cycle, prop) ->
+		{
+			cycle.loop = prop.get();
+			cycle.seekTo(cycle.ticks);
+		})
+		.bind("loopLength", LongValue.class, (cycle, prop) ->
+		{
+			cycle.loopLength = prop.get();
+			cycle.seekTo(cycle.ticks);
+		})
+		.build();
+
+	/**
+	 * A day and a night which go by at the usual speed.
+	 */
+	public static final String DEFAULT_KEYFRAMES = "0:0; 24000:24000";
+
+	/**
+	 * The keyframes as they were written by the user.
+	 */
+	public String keyframes = KeyframeTime.DEFAULT_KEYFRAMES;
+	/**
+	 * Plays the timeline again once it ends rather than staying on its
+	 * last keyframe.
+	 */
+	public boolean loop = true;
+	/**
+	 * How many ticks it takes for the timeline to loop; if it is longer than
+	 * the timeline then the last keyframe eases into the first one for the
+	 * remaining ticks. Anything shorter than the tick of the last keyframe
+	 * loops right on it.
+	 */
+	public long loopLength = 0L;
+
+	/**
+	 * The ticks of each keyframe, sorted.
+	 */
+	private long[] keyframeTicks;
+	/**
+	 * The time that each keyframe has.
+	 */
+	private long[] keyframeTimes;
+	/**
+	 * How each keyframe eases into the next one.
+	 */
+	private Easings[] keyframeEasings;
+	private EasingType[] keyframeEasingTypes;
+
+	/**
+	 * The keyframe which was found last; see {@link #findKeyframe(long)}.
+	 */
+	private int currentKeyframe = 0;
+
+	/**
+	 * How many ticks of the timeline have been played.
+	 */
+	private long ticks = 0L;
+
+	private long cachedTime;
+	private long previousCachedTime;
+
+	public KeyframeTime() {
+		this.setKeyframes(KeyframeTime.DEFAULT_KEYFRAMES);
+	}
+
+	@Override
+	public void tick()
+	{
+		this.previousCachedTime = this.cachedTime;
+		this.cachedTime = this.getTimeAt(++this.ticks);
+	}
+
+	/**
+	 * Moves the timeline to the tick, as if it had been played up to it.
+	 *
+	 * @param tick the tick of the timeline to move to
+	 */
+	public void seekTo(long tick)
+	{
+		this.ticks = tick;
+		this.previousCachedTime = this.cachedTime = this.getTimeAt(tick);
+	}
+	/**
+	 * Moves the timeline forward; any tick of it can be gone to right away.
+	 */
+	@Override
+	public void seek(long ticks)
+	{
+		if (ticks <= 0L)
+			return;
+
+		this.seekTo(this.ticks + ticks - 1L);
+		this.tick();
+	}
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * Replaces the timeline with the keyframes and stays on the same tick.
+	 *
+	 * @param keyframes the keyframes as written by the user; a timeline that
+	 * has no keyframes which can be read stays on time 0
+	 */
+	public void setKeyframes(String keyframes)
+	{
+		this.keyframes = (keyframes == null) ? "" : keyframes;
+
+		final List<Keyframe> parsedKeyframes = KeyframeTime.parseKeyframes(this.keyframes);
+
+		if (parsedKeyframes.isEmpty())
+			parsedKeyframes.add(new Keyframe(0L, 0L, Easings.LINEAR, EasingType.BETWEEN));
+
+		// Stable, so keyframes on the same tick keep the order they were written in
+		parsedKeyframes.sort(Comparator.comparingLong(Keyframe::tick));
+
+		final int keyframeCount = parsedKeyframes.size();
+
+		this.keyframeTicks = new long[keyframeCount];
+		this.keyframeTimes = new long[keyframeCount];
+		this.keyframeEasings = new Easings[keyframeCount];
+		this.keyframeEasingTypes = new EasingType[keyframeCount];
+
+		for (int i = 0; i < keyframeCount; ++i)
+		{
+			final Keyframe keyframe = parsedKeyframes.get(i);
+
+			this.keyframeTicks[i] = keyframe.tick();
+			this.keyframeTimes[i] = keyframe.time();
+			this.keyframeEasings[i] = keyframe.easing();
+			this.keyframeEasingTypes[i] = keyframe.easingType();
+		}
+
+		this.currentKeyframe = 0;
+		this.seekTo(this.ticks);
+	}
+	public int getKeyframeCount() {
+		return this.keyframeTicks.length;
+	}
+
+	/**
+	 * Gets the time at the tick of the timeline.
+	 *
+	 * @param tick the tick of the timeline
+	 * @return a {@code long} value representing the game time
+	 */
+	public long getTimeAt(long tick)
+	{
+		final long[] ticks = this.keyframeTicks;
+		final int last = ticks.length - 1;
+
+		final long loopTick = this.getLoopTick();
+
+		if (loopTick > 0L)
+			tick = Math.floorMod(tick, loopTick);
+
+		final int keyframe = this.findKeyframe(tick);
+
+		// Between two keyframes of the timeline
+		if (keyframe >= 0 && keyframe < last)
+			return this.ease(keyframe, tick - ticks[keyframe], ticks[keyframe + 1] - ticks[keyframe], this.keyframeTimes[keyframe + 1]);
+
+		if (loopTick <= 0L)
+			return this.keyframeTimes[(keyframe < 0) ? 0 : last];
+
+		// Between the last keyframe and the first one of the next loop, which
+		// is also where the ticks before the first keyframe are
+		final long wrapTicks = loopTick - ticks[last] + ticks[0];
+		final long ticksIntoWrap = (keyframe < 0) ? tick + loopTick - ticks[last] : tick - ticks[last];
+
+		return this.ease(last, ticksIntoWrap, wrapTicks, this.keyframeTimes[0]);
+	}
+	/**
+	 * Gets the tick at which the timeline loops.
+	 *
+	 * @return the tick; {@code 0} if it does not loop
+	 */
+	private long getLoopTick()
+	{
+		if (!this.loop)
+			return 0L;
+
+		return Math.max(this.loopLength, this.keyframeTicks[this.keyframeTicks.length - 1]);
+	}
+	/**
+	 * Finds the last keyframe which is on or before the tick.
+	 *
+	 * @param tick the tick of the timeline, which is already looped
+	 * @return the keyframe; {@code -1} if the tick is before every keyframe
+	 */
+	private int findKeyframe(long tick)
+	{
+		final long[] ticks = this.keyframeTicks;
+		final int count = ticks.length;
+
+		int keyframe = this.currentKeyframe;
+
+		// Still on the same keyframe or on the next one, which is what happens
+		// on almost every tick
+		if (this.isOnKeyframe(keyframe, tick))
+			return keyframe;
+		if (this.isOnKeyframe(++keyframe, tick))
+			return this.currentKeyframe = keyframe;
+
+		keyframe = Arrays.binarySearch(ticks, tick);
+
+		if (keyframe < 0)
+			keyframe = -keyframe - 2;
+		else
+		{
+			// Keyframes on the same tick jump straight to the last one of them
+			while (keyframe + 1 < count && ticks[keyframe + 1] == tick)
+				++keyframe;
+		}
+
+		if (keyframe >= 0)
+			this.currentKeyframe = keyframe;
+
+		return keyframe;
+	}
+	private boolean isOnKeyframe(int keyframe, long tick)
+	{
+		final long[] ticks = this.keyframeTicks;
+
+		return keyframe >= 0 && keyframe < ticks.length && ticks[keyframe] <= tick &&
+			(keyframe + 1 == ticks.length || tick < ticks[keyframe + 1]);
+	}
+	private long ease(int keyframe, long ticksPassed, long ticksBetween, long nextTime)
+	{
+		final long time = this.keyframeTimes[keyframe];
+
+		if (ticksBetween <= 0L)
+			return nextTime;
+
+		final double delta = (double)ticksPassed / (double)ticksBetween;
+		final double eased = this.keyframeEasings[keyframe].evaluate(this.keyframeEasingTypes[keyframe], delta);
+
+		return (long)((double)time + ((double)nextTime - (double)time) * eased);
+	}
+
+	private static List<Keyframe> parseKeyframes(String keyframes)
+	{
+		final String[] entries = keyframes.split(";");
+		List<Keyframe> parsedKeyframes = new ArrayList<>(entries.length);
+
+		for (String entry : entries)
+		{
+			final String[] parts = entry.trim().split(":");
+
+			if (parts.length < 2)
+				continue;
+
+			try
+			{
+				final long tick = Long.parseLong(parts[0].trim());
+				final long time = Long.parseLong(parts[1].trim());
+
+				if (tick < 0L)
+					continue;
+
+				Easings easing = (parts.length > 2) ? Easings.parseFromString(parts[2].trim()) : null;
+				EasingType easingType = (parts.length > 3) ? EasingType.parseFromString(parts[3].trim()) : null;
+
+				parsedKeyframes.add(new Keyframe(tick, time,
+					(easing == null) ? Easings.LINEAR : easing,
+					(easingType == null) ? EasingType.BETWEEN : easingType));
+			}
+			catch (NumberFormatException e) {
+				continue;
+			}
+		}
+
+		return parsedKeyframes;
+	}
+
+	@Override
+	public long getModifiedTime(ClientWorld world, DayNightGetterType executor, boolean previous) {
+		return previous ? this.previousCachedTime : this.cachedTime;
+	}
+	@Override
+	public long getCachedTime() {
+		return this.cachedTime;
+	}
+
+	@Override
+	public Class<?> getBuilderClass() {
+		return Builder.class;
+	}
+
+	@Override
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return KeyframeTime.PROPERTY_SCHEMA.createProperties(this);
+	}
+
+	@Override
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		KeyframeTime.PROPERTY_BINDINGS.write(this, property);
+	}
+
+	private record Keyframe(long tick, long time, Easings easing, EasingType easingType) {}
+
+	public static class Builder implements DayNightCycleBuilder
+	{
+		@Override
+		public DayNightCycleBasis create() {
+			return new KeyframeTime();
+		}
+
+		@Override
+		public String getKeyName() {
+			return "keyframetime";
+		}
+
+		@Override
+		public Text getTranslatableName() {
+			return new TranslatableText("jugglestruggle.tcs.dnt.keyframetime");
+		}
+		@Override
+		public Text getTranslatableDescription() {
+			return new TranslatableText("jugglestruggle.tcs.dnt.keyframetime.description");
+		}
+
+		@Override
+		public boolean hasOptionsToEdit() {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,446 @@
+package jugglestruggle.timechangerstruggle.daynight.type;
+
+import jugglestruggle.timechangerstruggle.client.TimeChangerStruggleClient;
+import jugglestruggle.timechangerstruggle.config.Configuration;
+import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
+import jugglestruggle.timechangerstruggle.config.property.DoubleValue;
+import jugglestruggle.timechangerstruggle.config.property.StringValue;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.daynight.DayNightGetterType;
+import jugglestruggle.timechangerstruggle.daynight.simulation.ClientCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleEnvironment;
+import jugglestruggle.timechangerstruggle.util.DaylightUtils;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import net.minecraft.util.math.MathHelper;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+import net.minecraft.client.world.ClientWorld;
+
+/**
+ * Stacks other cycles on top of each other, like the System Time with the
+ * Low-to-High Height Time laid over it the deeper the camera goes, or the
+ * Randomizers jittering the Moving Time.
+ *
+ * <p> The layers are written as {@code cycle[:mode[:weight]]} and separated
+ * by {@code ;}, like {@code systemtime; lowtohighheighttime:override:depth}.
+ * The first layer is the base; each layer after it is blended into what
+ * the layers before it came up with:
+ * <ul>
+ * <li> {@code override} moves the time towards the layer's time by the
+ *      weight, which replaces it at a weight of 1
+ * <li> {@code add} adds the layer's time multiplied by the weight
+ * <li> {@code average} takes the weighted average of the layer's time and
+ *      of what came before it
+ * </ul>
+ * The weight is either a number or {@code depth}, which goes from 0 at
+ * {@link #depthStartY} to 1 at {@link #depthEndY}. Override and average go
+ * the shortest way around the day, so 23000 and 1000 meet at 0 rather than
+ * at 12000.
+ *
+ * <p> Each layer is a cycle of its own, made with the values that are
+ * stored for its cycle and given them again whenever they change. All of
+ * the layers are ticked and blended in a
+ * single pass over arrays which are only made when the layers change.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+@Environment(EnvType.CLIENT)
+public class LayeredTime implements DayNightCycleBasis
+{
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<LayeredTime> PROPERTY_SCHEMA =
+		CyclePropertySchema.builder(LayeredTime.class)
+		.section("layers", "jugglestruggle.tcs.dnt.layeredtime.properties.layers")
+		.stringProperty("layers", cycle -> cycle.layers, LayeredTime.DEFAULT_LAYERS, true, Short.MAX_VALUE)
+
+		.section("depth", "jugglestruggle.tcs.dnt.layeredtime.properties.depth")
+		.doubleProperty("depthStartY", cycle -> cycle.depthStartY, (double)Long.MIN_VALUE, Double.MAX_VALUE)
+		.doubleProperty("depthEndY",   cycle -> cycle.depthEndY,   (double)Long.MIN_VALUE, Double.MAX_VALUE)
+		.build();
+
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle.
+	 */
+	private static final CyclePropertyBindings<LayeredTime> PROPERTY_BINDINGS =
+		CyclePropertyBindings.builder(LayeredTime.class)
+		.bind("layers", StringValue.class, (cycle, prop) -> cycle.setLayers(prop.get()))
+		.bind("depthStartY", DoubleValue.class, (cycle, prop) -> cycle.depthStartY = prop.get())
+		.bind("depthEndY",   DoubleValue.class, (cycle, prop) -> cycle.depthEndY = prop.get())
+		.build();
+
+	public static final String DEFAULT_LAYERS = "systemtime; lowtohighheighttime:override:depth";
+
+	private static final long ONE_DAY = (long)DaylightUtils.ONE_DAY;
+	private static final long HALF_DAY = LayeredTime.ONE_DAY / 2L;
+
+	/**
+	 * The layers as they were written by the user.
+	 */
+	public String layers = "";
+
+	/**
+	 * The height where layers weighted by depth start to be blended in.
+	 */
+	public double depthStartY = 64.0;
+	/**
+	 * The height where layers weighted by depth are fully blended in.
+	 */
+	public double depthEndY = 0.0;
+
+	private DayNightCycleBasis[] layerCycles = new DayNightCycleBasis[0];
+	private BlendMode[] layerModes = new BlendMode[0];
+	/**
+	 * The weight of each layer; {@link Double#NaN} for the layers which are
+	 * weighted by depth.
+	 */
+	private double[] layerWeights = new double[0];
+	/**
+	 * The {@link Configuration#getStoredValuesVersion()} of when the layers
+	 * were last given the stored values.
+	 */
+	private int layerValuesVersion;
+
+	private long cachedTime;
+	private long previousCachedTime;
+
+	private CycleEnvironment environment = ClientCycleEnvironment.INSTANCE;
+
+	public LayeredTime() {
+		this.setLayers(LayeredTime.DEFAULT_LAYERS);
+	}
+
+	@Override
+	public void setEnvironment(CycleEnvironment environment)
+	{
+		this.environment = environment;
+
+		for (DayNightCycleBasis layer : this.layerCycles)
+			layer.setEnvironment(environment);
+	}
+
+	@Override
+	public void tick()
+	{
+		this.refreshLayerValues();
+
+		for (DayNightCycleBasis layer : this.layerCycles)
+			layer.tick();
+
+		this.blendLayers();
+	}
+	/**
+	 * Seeks each of the layers, which is only as slow as the slowest layer
+	 * is to seek. The layers are seeked up to the tick before the last one
+	 * and then ticked, so that the previous time is blended too.
+	 */
+	@Override
+	public void seek(long ticks)
+	{
+		if (ticks <= 0L)
+			return;
+
+		if (ticks > 1L)
+		{
+			this.refreshLayerValues();
+
+			for (DayNightCycleBasis layer : this.layerCycles)
+				layer.seek(ticks - 1L);
+
+			this.blendLayers();
+		}
+
+		this.tick();
+	}
+
+	private void blendLayers()
+	{
+		final DayNightCycleBasis[] layerCycles = this.layerCycles;
+
+		if (layerCycles.length == 0)
+			return;
+
+		final double depthWeight = this.getDepthWeight();
+
+		long time = 0L;
+		double totalWeight = 0.0;
+
+		for (int i = 0; i < layerCycles.length; ++i)
+		{
+			final long layerTime = layerCycles[i].getCachedTime();
+
+			if (i == 0)
+			{
+				time = layerTime;
+				totalWeight = 1.0;
+
+				continue;
+			}
+
+			final double weight = Double.isNaN(this.layerWeights[i]) ? depthWeight : this.layerWeights[i];
+
+			switch (this.layerModes[i])
+			{
+				case OVERRIDE:
+				{
+					time = LayeredTime.blendOnDay(time, layerTime, MathHelper.clamp(weight, 0.0, 1.0));
+
+					// Whatever is averaged after it is averaged with the overridden time
+					totalWeight = 1.0;
+
+					break;
+				}
+				case ADD:
+					time += Math.round((double)layerTime * weight); break;
+				case AVERAGE:
+				{
+					if (weight <= 0.0)
+						break;
+
+					totalWeight += weight;
+					time = LayeredTime.blendOnDay(time, layerTime, weight / totalWeight);
+
+					break;
+				}
+			}
+		}
+
+		this.previousCachedTime = this.cachedTime;
+		this.cachedTime = time;
+	}
+
+	/**
+	 * Replaces the layers with the ones written; layers whose cycles do not
+	 * exist are skipped.
+	 *
+	 * @param layers the layers as written by the user
+	 */
+	public void setLayers(String layers)
+	{
+		if (layers == null)
+			layers = "";
+
+		if (layers.equals(this.layers) && this.layerCycles.length > 0)
+			return;
+
+		this.layers = layers;
+
+		List<DayNightCycleBasis> layerCycles = new ArrayList<>();
+		List<BlendMode> layerModes = new ArrayList<>();
+		List<Double> layerWeights = new ArrayList<>();
+
+		for (String entry : layers.split(";"))
+		{
+			final String[] parts = entry.trim().split(":");
+			final DayNightCycleBasis layer = LayeredTime.createLayer(parts[0].trim());
+
+			if (layer == null)
+				continue;
+
+			BlendMode mode = (parts.length > 1) ? BlendMode.parseFromString(parts[1].trim()) : null;
+			double weight = 1.0;
+
+			if (parts.length > 2)
+			{
+				final String weightPart = parts[2].trim();
+
+				if (weightPart.equalsIgnoreCase("depth"))
+					weight = Double.NaN;
+				else
+				{
+					try {
+						weight = Double.parseDouble(weightPart);
+					} catch (NumberFormatException e) {
+						continue;
+					}
+				}
+			}
+
+			layer.setEnvironment(this.environment);
+
+			layerCycles.add(layer);
+			layerModes.add((mode == null) ? BlendMode.OVERRIDE : mode);
+			layerWeights.add(weight);
+		}
+
+		final int layerCount = layerCycles.size();
+
+		this.layerCycles = layerCycles.toArray(new DayNightCycleBasis[layerCount]);
+		this.layerModes = layerModes.toArray(new BlendMode[layerCount]);
+		this.layerWeights = new double[layerCount];
+
+		for (int i = 0; i < layerCount; ++i)
+			this.layerWeights[i] = layerWeights.get(i);
+
+		if (TimeChangerStruggleClient.config != null)
+			this.layerValuesVersion = TimeChangerStruggleClient.config.getStoredValuesVersion();
+
+		this.tick();
+		this.previousCachedTime = this.cachedTime;
+	}
+	public int getLayerCount() {
+		return this.layerCycles.length;
+	}
+	/**
+	 * Writes the stored values to the layers again if any stored values were
+	 * changed since the layers were last given them, as the layers do not own
+	 * their values and are never written to otherwise.
+	 */
+	private void refreshLayerValues()
+	{
+		final Configuration config = TimeChangerStruggleClient.config;
+
+		if (config == null || config.getStoredValuesVersion() == this.layerValuesVersion)
+			return;
+
+		this.layerValuesVersion = config.getStoredValuesVersion();
+
+		for (DayNightCycleBasis layer : this.layerCycles)
+			config.applyStoredCycleValues(layer);
+	}
+
+	private double getDepthWeight()
+	{
+		final double cameraY = this.environment.getCameraY();
+
+		if (Double.isNaN(cameraY))
+			return 0.0;
+
+		final double depthLength = this.depthStartY - this.depthEndY;
+
+		if (depthLength == 0.0)
+			return (cameraY <= this.depthEndY) ? 1.0 : 0.0;
+
+		return MathHelper.clamp((this.depthStartY - cameraY) / depthLength, 0.0, 1.0);
+	}
+
+	/**
+	 * Moves the time towards the other by the weight, going the shortest
+	 * way around the day; the day that it is on is kept.
+	 */
+	private static long blendOnDay(long time, long towards, double weight)
+	{
+		final long difference = Math.floorMod(towards - time + LayeredTime.HALF_DAY, LayeredTime.ONE_DAY) - LayeredTime.HALF_DAY;
+		return time + Math.round((double)difference * weight);
+	}
+	/**
+	 * Creates the cycle of a layer with the values that are stored for it.
+	 *
+	 * @param cycleKeyName the key name of the layer's cycle
+	 * @return the cycle; {@code null} if it does not exist or is this cycle
+	 */
+	private static DayNightCycleBasis createLayer(String cycleKeyName)
+	{
+		// Layering itself would never stop making layers
+		if (cycleKeyName.equals("layeredtime"))
+			return null;
+
+		final Optional<DayNightCycleBuilder> builder = TimeChangerStruggleClient.getCachedCycleBuilderByKey(cycleKeyName);
+
+		if (!builder.isPresent())
+			return null;
+
+		final DayNightCycleBasis layer = builder.get().create();
+
+		// The layer is only given the stored values; it is not the cycle that
+		// is in use, so nothing about its type is stored or written
+		if (TimeChangerStruggleClient.config != null)
+			TimeChangerStruggleClient.config.applyStoredCycleValues(layer);
+
+		return layer;
+	}
+
+	@Override
+	public long getModifiedTime(ClientWorld world, DayNightGetterType executor, boolean previous) {
+		return previous ? this.previousCachedTime : this.cachedTime;
+	}
+	@Override
+	public long getCachedTime() {
+		return this.cachedTime;
+	}
+
+	@Override
+	public Class<?> getBuilderClass() {
+		return Builder.class;
+	}
+
+	@Override
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return LayeredTime.PROPERTY_SCHEMA.createProperties(this);
+	}
+
+	@Override
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		LayeredTime.PROPERTY_BINDINGS.write(this, property);
+	}
+
+	/**
+	 * How a layer is blended into what the layers before it came up with.
+	 */
+	public enum BlendMode
+	{
+		OVERRIDE,
+		ADD,
+		AVERAGE;
+
+		public static final BlendMode parseFromString(String name)
+		{
+			if (name == null || name.isBlank())
+				return null;
+
+			return switch (name.toLowerCase(Locale.ROOT))
+			{
+				case "override" -> BlendMode.OVERRIDE;
+				case "add" -> BlendMode.ADD;
+				case "average" -> BlendMode.AVERAGE;
+
+				default -> null;
+			};
+		}
+	}
+
+	public static class Builder implements DayNightCycleBuilder
+	{
+		@Override
+		public DayNightCycleBasis create() {
+			return new LayeredTime();
+		}
+
+		@Override
+		public String getKeyName() {
+			return "layeredtime";
+		}
+
+		@Override
+		public Text getTranslatableName() {
+			return new TranslatableText("jugglestruggle.tcs.dnt.layeredtime");
+		}
+		@Override
+		public Text getTranslatableDescription() {
+			return new TranslatableText("jugglestruggle.tcs.dnt.layeredtime.description");
+		}
+
+		@Override
+		public boolean hasOptionsToEdit() {
+			return true;
+		}
+	}
+}
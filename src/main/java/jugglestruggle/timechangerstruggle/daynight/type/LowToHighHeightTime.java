@@ -1,33 +1,80 @@
 package jugglestruggle.timechangerstruggle.daynight.type;
 
-import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
 import jugglestruggle.timechangerstruggle.config.property.DoubleValue;
 import jugglestruggle.timechangerstruggle.config.property.LongValue;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
 import jugglestruggle.timechangerstruggle.daynight.DayNightGetterType;
+import jugglestruggle.timechangerstruggle.daynight.DayNightTimeSnapshot;
+import jugglestruggle.timechangerstruggle.daynight.simulation.ClientCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleEnvironment;
+import jugglestruggle.timechangerstruggle.util.EasingType;
+import jugglestruggle.timechangerstruggle.util.Easings;
 
 import java.util.Set;
 
-import net.minecraft.entity.Entity;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
+import net.minecraft.util.math.MathHelper;
 
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.world.ClientWorld;
 
-import com.google.common.collect.ImmutableSet;
-
 /**
  * A daylight cycle which uses the current viewing entity's height
  * to determine as to whether it should shine or night-ify.
+ * 
+ * <p> The time is only worked out again once the height has moved by more
+ * than {@link #heightEpsilon}, so standing still costs close to nothing. 
+ * While the camera moves, the sky follows the camera's height in between
+ * ticks as well, by working out the time of the height at that point 
+ * rather than blending the times of the two ticks.
  *
  * @author JuggleStruggle
  * @implNote Created on 21-Feb-2022, Monday
  */
 public class LowToHighHeightTime implements DayNightCycleBasis
 {
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<LowToHighHeightTime> PROPERTY_SCHEMA = 
+		CyclePropertySchema.builder(LowToHighHeightTime.class)
+		.section("minmaxheight", "jugglestruggle.tcs.dnt.lowtohighheighttime.properties.minmaxheight")
+		.doubleProperty("minHeight", cycle -> cycle.minHeight, (double)Long.MIN_VALUE, Double.MAX_VALUE)
+		.longProperty("minHeightTime", cycle -> cycle.minHeightTime, Long.MIN_VALUE, Long.MAX_VALUE)
+		.doubleProperty("maxHeight", cycle -> cycle.maxHeight, (double)Long.MIN_VALUE, Double.MAX_VALUE)
+		.longProperty("maxHeightTime", cycle -> cycle.maxHeightTime, Long.MIN_VALUE, Long.MAX_VALUE)
+		
+		.section("mapping", "jugglestruggle.tcs.dnt.lowtohighheighttime.properties.mapping")
+		.doubleProperty("heightEpsilon", cycle -> cycle.heightEpsilon, 0.0, Double.MAX_VALUE)
+		.doubleProperty("hysteresis", cycle -> cycle.hysteresis, 0.0, Double.MAX_VALUE)
+		.enumProperty("easing", cycle -> cycle.easing, 
+			Easings.LINEAR, MovingTimeBasis.EASINGS, easing -> easing.getFormattedText())
+		.enumProperty("easingType", cycle -> cycle.easingType, 
+			EasingType.BETWEEN, MovingTimeBasis.EASING_TYPES, easing -> easing.getFormattedText())
+		.build();
+	
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle; each of them has the time worked out again on the next
+	 * tick.
+	 */
+	private static final CyclePropertyBindings<LowToHighHeightTime> PROPERTY_BINDINGS = 
+		CyclePropertyBindings.builder(LowToHighHeightTime.class)
+		.bind("minHeight",     DoubleValue.class, (cycle, prop) -> { cycle.minHeight = prop.get(); cycle.markDirty(); })
+		.bind("minHeightTime", LongValue.class,   (cycle, prop) -> { cycle.minHeightTime = prop.get(); cycle.markDirty(); })
+		.bind("maxHeight",     DoubleValue.class, (cycle, prop) -> { cycle.maxHeight = prop.get(); cycle.markDirty(); })
+		.bind("maxHeightTime", LongValue.class,   (cycle, prop) -> { cycle.maxHeightTime = prop.get(); cycle.markDirty(); })
+		.bind("heightEpsilon", DoubleValue.class, (cycle, prop) -> { cycle.heightEpsilon = prop.get(); cycle.markDirty(); })
+		.bind("hysteresis",    DoubleValue.class, (cycle, prop) -> { cycle.hysteresis = prop.get(); cycle.markDirty(); })
+		.bindEnum("easing", Easings.class, (cycle, easing) -> { cycle.easing = easing; cycle.markDirty(); })
+		.bindEnum("easingType", EasingType.class, (cycle, easingType) -> { cycle.easingType = easingType; cycle.markDirty(); })
+		.build();
+	
 	protected long cachedTime = 0;
 	protected long cachedTimePrev = 0;
 
@@ -37,33 +84,80 @@ public class LowToHighHeightTime implements DayNightCycleBasis
 	public long minHeightTime = 18000L;
 	public long maxHeightTime = 30000L;
 	
+	/**
+	 * How far the height has to move from where the time was last worked
+	 * out from for it to be worked out again.
+	 */
+	public double heightEpsilon = 0.01;
+	/**
+	 * How far the camera can move back and forth without the height that is
+	 * used following it; once it goes past it, the height is dragged along
+	 * behind the camera. Stops the time from flickering when moving up and 
+	 * down around the same height.
+	 */
+	public double hysteresis = 0.0;
+	/**
+	 * The curve that the time follows between the minimum and maximum 
+	 * heights.
+	 */
+	public Easings easing = Easings.LINEAR;
+	public EasingType easingType = EasingType.BETWEEN;
+	
+	/**
+	 * The height used after {@link #hysteresis} is applied; {@link Double#NaN}
+	 * if there is none yet.
+	 */
+	private double trackedY = Double.NaN;
+	/**
+	 * {@link #trackedY} of the previous tick; {@link Double#NaN} if there
+	 * is none yet.
+	 */
+	private double previousTrackedY = Double.NaN;
+	/**
+	 * The height that {@link #cachedTime} was worked out from; 
+	 * {@link Double#NaN} to have it worked out on the next tick.
+	 */
+	private double evaluatedY = Double.NaN;
+	
+	private CycleEnvironment environment = ClientCycleEnvironment.INSTANCE;
+	
+	@Override
+	public void setEnvironment(CycleEnvironment environment) 
+	{
+		this.environment = environment;
+		
+		// The heights came from the previous environment's camera
+		this.trackedY = this.previousTrackedY = Double.NaN;
+		this.markDirty();
+	}
+	
 	@Override
 	public void tick()
 	{
-		Entity camEntity = MinecraftClient.getInstance().getCameraEntity();
+		final double cameraY = this.environment.getCameraY();
 		
-		if (camEntity == null)
+		if (Double.isNaN(cameraY))
 		{
 			this.cachedTime = this.cachedTimePrev = 0L;
+			this.trackedY = this.previousTrackedY = Double.NaN;
+			this.markDirty();
+			
 			return;
 		}
 		
-		double myY = camEntity.getPos().getY();
-		
 		this.cachedTimePrev = this.cachedTime;
+		this.previousTrackedY = this.trackedY;
 		
-		if (myY < this.minHeight)
-			this.cachedTime = this.minHeightTime;
-		else if (myY > this.maxHeight)
-			this.cachedTime = this.maxHeightTime;
-		else
-		{
-			double heightLength = this.maxHeight - this.minHeight;
-			double res = myY - this.minHeight;
-			res = res / heightLength;
-			
-			this.cachedTime = (long)((double)this.minHeightTime + (double)(this.maxHeightTime - this.minHeightTime) * res);
-		}
+		final double height = this.trackHeight(cameraY);
+		
+		if (Double.isNaN(this.previousTrackedY))
+			this.previousTrackedY = height;
+		
+		if (!Double.isNaN(this.evaluatedY) && Math.abs(height - this.evaluatedY) <= this.heightEpsilon)
+			return;
+		
+		this.evaluatedY = height;
+		this.cachedTime = this.getTimeAtHeight(height);
 		
 //		if (Keybindings.toggleWorldTimeKey.isPressed())
 //		{
@@ -72,10 +166,91 @@ public class LowToHighHeightTime implements DayNightCycleBasis
 //		}
 	}
 	
+	/**
+	 * The camera does not move while seeking, so only the last two ticks 
+	 * would give any different times.
+	 */
+	@Override
+	public void seek(long ticks)
+	{
+		for (long i = Math.max(ticks - 2L, 0L); i < ticks; ++i)
+			this.tick();
+	}
+	
+	/**
+	 * Works out the time for the height without any of the
+	 * {@link #hysteresis}.
+	 * 
+	 * @param height the height to work out the time for
+	 * @return the time of day
+	 */
+	public long getTimeAtHeight(double height)
+	{
+		return LowToHighHeightTime.getTimeAtHeight(height, this.minHeight, this.maxHeight, 
+			this.minHeightTime, this.maxHeightTime, this.easing, this.easingType);
+	}
+	private static long getTimeAtHeight(double height, double minHeight, double maxHeight, 
+		long minHeightTime, long maxHeightTime, Easings easing, EasingType easingType)
+	{
+		if (height < minHeight)
+			return minHeightTime;
+		else if (height > maxHeight)
+			return maxHeightTime;
+		
+		double delta = (height - minHeight) / (maxHeight - minHeight);
+		
+		if (easing != null && easingType != null)
+			delta = easing.evaluate(easingType, delta);
+		
+		return (long)((double)minHeightTime + (double)(maxHeightTime - minHeightTime) * delta);
+	}
+	
+	private double trackHeight(double cameraY)
+	{
+		if (Double.isNaN(this.trackedY) || this.hysteresis <= 0.0)
+			this.trackedY = cameraY;
+		else if (cameraY > this.trackedY + this.hysteresis)
+			this.trackedY = cameraY - this.hysteresis;
+		else if (cameraY < this.trackedY - this.hysteresis)
+			this.trackedY = cameraY + this.hysteresis;
+		
+		return this.trackedY;
+	}
+	private void markDirty() {
+		this.evaluatedY = Double.NaN;
+	}
+	
 	@Override
 	public long getModifiedTime(ClientWorld world, DayNightGetterType executor, boolean previous) {
 		return previous ? this.cachedTimePrev : this.cachedTime;
 	}
+	/**
+	 * Works out the time of the height in between the heights of the 
+	 * previous and the current tick, the same way that the camera moves 
+	 * in between them. Nothing is given if the height did not move by more
+	 * than {@link #heightEpsilon}, as the time is then the same throughout.
+	 */
+	@Override
+	public DayNightTimeSnapshot.BetweenTicks getTimeBetweenTicks(ClientWorld world, DayNightGetterType executor)
+	{
+		final double fromY = this.previousTrackedY;
+		final double toY = this.trackedY;
+		
+		if (Double.isNaN(fromY) || Double.isNaN(toY) || Math.abs(toY - fromY) <= this.heightEpsilon)
+			return null;
+		
+		// Copied as the snapshot can be read from other threads and long 
+		// after the properties have changed
+		final double minHeight = this.minHeight;
+		final double maxHeight = this.maxHeight;
+		final long minHeightTime = this.minHeightTime;
+		final long maxHeightTime = this.maxHeightTime;
+		final Easings easing = this.easing;
+		final EasingType easingType = this.easingType;
+		
+		return tickDelta -> LowToHighHeightTime.getTimeAtHeight(MathHelper.lerp((double)tickDelta, fromY, toY), 
+			minHeight, maxHeight, minHeightTime, maxHeightTime, easing, easingType);
+	}
 
 	@Override
 	public long getCachedTime() {
@@ -88,50 +263,13 @@ public class LowToHighHeightTime implements DayNightCycleBasis
 	}
 	
 	@Override
-	public Set<BaseProperty<?, ?>> createProperties()
-	{
-		ImmutableSet.Builder<BaseProperty<?, ?>> prop = ImmutableSet.builderWithExpectedSize(5);
-		
-		final String sectLang = "jugglestruggle.tcs.dnt.lowtohighheighttime.properties.";
-		
-		prop.add(new FancySectionProperty("minmaxheight", new TranslatableText(sectLang+"minmaxheight")));
-		prop.add(new DoubleValue("minHeight",     this.minHeight, (double)Long.MIN_VALUE, Double.MAX_VALUE));
-		prop.add(new LongValue  ("minHeightTime", this.minHeightTime, Long.MIN_VALUE, Long.MAX_VALUE));
-		prop.add(new DoubleValue("maxHeight",     this.maxHeight, (double)Long.MIN_VALUE, Double.MAX_VALUE));
-		prop.add(new LongValue  ("maxHeightTime", this.maxHeightTime, Long.MIN_VALUE, Long.MAX_VALUE));
-		
-		return prop.build();
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return LowToHighHeightTime.PROPERTY_SCHEMA.createProperties(this);
 	}
 	
 	@Override
-	public void writePropertyValueToCycle(BaseProperty<?, ?> property)
-	{
-		final String belongingKey = property.property();
-		
-		if (property instanceof LongValue)
-		{
-			LongValue prop = (LongValue)property;
-			
-			switch (belongingKey)
-			{
-				case "minHeightTime": 
-					this.minHeightTime = prop.get(); break;
-				case "maxHeightTime": 
-					this.maxHeightTime = prop.get(); break;
-			}
-		}
-		else if (property instanceof DoubleValue)
-		{
-			DoubleValue prop = (DoubleValue)property;
-			
-			switch (belongingKey)
-			{
-				case "minHeight": 
-					this.minHeight = prop.get(); break;
-				case "maxHeight": 
-					this.maxHeight = prop.get(); break;
-			}
-		}
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		LowToHighHeightTime.PROPERTY_BINDINGS.write(this, property);
 	}
 
 	public static class Builder implements DayNightCycleBuilder
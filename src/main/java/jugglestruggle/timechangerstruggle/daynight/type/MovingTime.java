@@ -1,8 +1,8 @@
 package jugglestruggle.timechangerstruggle.daynight.type;
 
-import jugglestruggle.timechangerstruggle.client.config.property.FancySectionProperty;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
-import jugglestruggle.timechangerstruggle.config.property.EnumValue;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
 import jugglestruggle.timechangerstruggle.config.property.IntValue;
 import jugglestruggle.timechangerstruggle.config.property.LongValue;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
@@ -18,8 +18,6 @@ import java.util.Set;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 
-import com.google.common.collect.ImmutableSet;
-
 /**
  * A time which the user can define the speed, the starting time (will be moved
  * as soon as the next tick occurs) and some variables.
@@ -30,6 +28,39 @@ import com.google.common.collect.ImmutableSet;
 @Environment(EnvType.CLIENT)
 public class MovingTime extends MovingTimeBasis
 {
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<MovingTime> PROPERTY_SCHEMA = 
+		CyclePropertySchema.builder(MovingTime.class)
+		.section("updating", "jugglestruggle.tcs.dnt.movingtime.properties.updating")
+		.longProperty("ticksUntilNextUpdate", cycle -> cycle.ticksUntilNextCall, 0L, Long.MAX_VALUE)
+		
+		.section("speed", "jugglestruggle.tcs.dnt.movingtime.properties.speed")
+		.intProperty("immediateSpeed", cycle -> cycle.speedForImmediateCalls, Integer.MIN_VALUE, Integer.MAX_VALUE)
+		.intProperty("pausedSpeed", cycle -> cycle.speedForLaterCalls, Integer.MIN_VALUE, Integer.MAX_VALUE)
+		
+		.section("easings", "jugglestruggle.tcs.dnt.movingtime.properties.easings")
+		.enumProperty("easingBetweenTicks", cycle -> cycle.easingBetweenTicks, 
+			Easings.LINEAR, MovingTimeBasis.EASINGS, easing -> easing.getFormattedText())
+		.enumProperty("easingTypeBetweenTicks", cycle -> cycle.easingType, 
+			EasingType.BETWEEN, MovingTimeBasis.EASING_TYPES, easing -> easing.getFormattedText())
+		.build();
+	
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle.
+	 */
+	private static final CyclePropertyBindings<MovingTime> PROPERTY_BINDINGS = 
+		CyclePropertyBindings.builder(MovingTime.class)
+		.bind("ticksUntilNextUpdate", LongValue.class, (cycle, prop) -> cycle.ticksUntilNextCall = prop.get())
+		.bind("immediateSpeed", IntValue.class, (cycle, prop) -> cycle.speedForImmediateCalls = prop.get())
+		.bind("pausedSpeed", IntValue.class, (cycle, prop) -> cycle.speedForLaterCalls = prop.get())
+		.bindEnum("easingBetweenTicks", Easings.class, (cycle, easing) -> cycle.easingBetweenTicks = easing)
+		.bindEnum("easingTypeBetweenTicks", EasingType.class, (cycle, easingType) -> cycle.easingType = easingType)
+		.build();
+	
 	public int speedForImmediateCalls = 1;
 	public int speedForLaterCalls = 80;
 
@@ -52,6 +83,29 @@ public class MovingTime extends MovingTimeBasis
 	public void updateInterpolation() {
 		super.nextInterpolatedTime += this.speedForLaterCalls;
 	}
+	@Override
+	protected boolean skipUpdates(long updates)
+	{
+		// Every update moves the time by the same speed, so any amount of them
+		// is just as many times the speed
+		if (super.ticksUntilNextCall == 0)
+		{
+			super.previousInterpolatedTime =
+			super.previousCachedTime = super.cachedTime + (updates - 1L) * this.speedForImmediateCalls;
+			
+			super.cachedTime += updates * this.speedForImmediateCalls;
+		}
+		else
+		{
+			super.previousInterpolatedTime = super.nextInterpolatedTime + (updates - 1L) * this.speedForLaterCalls;
+			super.nextInterpolatedTime += updates * this.speedForLaterCalls;
+			
+			super.previousCachedTime = super.cachedTime;
+			super.cachedTime = super.previousInterpolatedTime;
+		}
+		
+		return true;
+	}
 
 	@Override
 	public Class<?> getBuilderClass() {
@@ -60,78 +114,13 @@ public class MovingTime extends MovingTimeBasis
 	
 
 	@Override
-	public Set<BaseProperty<?, ?>> createProperties()
-	{
-		ImmutableSet.Builder<BaseProperty<?, ?>> prop = ImmutableSet.builderWithExpectedSize(9);
-		
-		final String sectLang = "jugglestruggle.tcs.dnt.movingtime.properties.";
-		
-		prop.add(new FancySectionProperty("updating", new TranslatableText(sectLang+"updating")));
-		prop.add(new LongValue("ticksUntilNextUpdate", super.ticksUntilNextCall, 0L, Long.MAX_VALUE));
-		
-		prop.add(new FancySectionProperty("speed", new TranslatableText(sectLang+"speed")));
-		prop.add(new IntValue("immediateSpeed", this.speedForImmediateCalls, Integer.MIN_VALUE, Integer.MAX_VALUE));
-		prop.add(new IntValue("pausedSpeed", this.speedForLaterCalls, Integer.MIN_VALUE, Integer.MAX_VALUE));
-
-		prop.add(new FancySectionProperty("easings", new TranslatableText(sectLang+"easings")));
-		prop.add(new EnumValue<>("easingBetweenTicks", this.easingBetweenTicks, Easings.LINEAR, Easings.values())
-			.setVTT(easing -> easing.getFormattedText()));
-		prop.add(new EnumValue<>("easingTypeBetweenTicks", this.easingType, EasingType.BETWEEN, EasingType.values())
-			.setVTT(easing -> easing.getFormattedText()));
-		
-		return prop.build();
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return MovingTime.PROPERTY_SCHEMA.createProperties(this);
 	}
 	
 	@Override
-	public void writePropertyValueToCycle(BaseProperty<?, ?> property)
-	{
-		final String belongingKey = property.property();
-		
-		if (property instanceof LongValue)
-		{
-			if (belongingKey.equals("ticksUntilNextUpdate")) {
-				this.ticksUntilNextCall = ((LongValue)property).get();
-			}
-		}
-		else if (property instanceof IntValue)
-		{
-			IntValue prop = (IntValue)property;
-			
-			switch (belongingKey)
-			{
-				case "immediateSpeed": 
-					this.speedForImmediateCalls = prop.get(); break;
-				case "pausedSpeed": 
-					this.speedForLaterCalls = prop.get(); break;
-			}
-		}
-		else if (property instanceof EnumValue<?>)
-		{
-			EnumValue<?> prop = (EnumValue<?>)property;
-			
-			if (prop.getDefaultValue() instanceof Easings)
-			{
-				switch (belongingKey)
-				{
-					case "easingBetweenTicks": 
-					{
-						this.easingBetweenTicks = (Easings)prop.get(); 
-						break;
-					}
-				}
-			}
-			else if (prop.getDefaultValue() instanceof EasingType)
-			{
-				switch (belongingKey)
-				{
-					case "easingTypeBetweenTicks": 
-					{
-						this.easingType = (EasingType)prop.get(); 
-						break;
-					}
-				}
-			}
-		}
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		MovingTime.PROPERTY_BINDINGS.write(this, property);
 	}
 
 	public static class Builder implements DayNightCycleBuilder
@@ -20,6 +20,13 @@ import net.minecraft.client.world.ClientWorld;
  */
 public abstract class MovingTimeBasis implements DayNightCycleBasis
 {
+	/**
+	 * Given to the easing properties of the cycles; cached as {@code values()}
+	 * creates a new array on every call.
+	 */
+	protected static final Easings[] EASINGS = Easings.values();
+	protected static final EasingType[] EASING_TYPES = EasingType.values();
+	
 	protected long cachedTime = 0;
 	protected long previousCachedTime = 0;
 	
@@ -87,7 +94,7 @@ public abstract class MovingTimeBasis implements DayNightCycleBasis
 			if (this.easingBetweenTicks != null)
 			{
 				double animationDelta = (double)this.ticksPassed / (double)this.ticksUntilNextCall;
-				double result = this.easingBetweenTicks.value(this.easingType, animationDelta);
+				double result = this.easingBetweenTicks.evaluate(this.easingType, animationDelta);
 				
 				this.previousCachedTime = this.cachedTime;
 				
@@ -112,6 +119,65 @@ public abstract class MovingTimeBasis implements DayNightCycleBasis
 		this.cachedTime = this.previousInterpolatedTime;
 	}
 	
+	/**
+	 * Moves forward a segment at a time rather than a tick at a time, a 
+	 * segment being the ticks that interpolate between two updates and the
+	 * tick that makes the next update. Only the last two ticks of a segment 
+	 * are ticked as the ones before it have their times overwritten anyways, 
+	 * and whole segments are skipped all at once if {@link #skipUpdates} can.
+	 */
+	@Override
+	public void seek(long ticks)
+	{
+		while (ticks > 0L)
+		{
+			final long interpolatingTicks = Math.max(this.ticksUntilNextCall - this.ticksPassed, 0L);
+			
+			if (ticks <= interpolatingTicks)
+			{
+				this.seekWithinSegment(ticks);
+				return;
+			}
+			
+			// Finishes the segment and makes the update
+			this.seekWithinSegment(interpolatingTicks);
+			this.tick();
+			
+			ticks -= interpolatingTicks + 1L;
+			
+			// Every segment from here on is a whole one; the last one is left
+			// to be ticked so that the times before the update are right
+			final long segmentLength = Math.max(this.ticksUntilNextCall, 0L) + 1L;
+			final long wholeSegments = ticks / segmentLength;
+			
+			if (wholeSegments > 1L && this.skipUpdates(wholeSegments - 1L))
+				ticks -= (wholeSegments - 1L) * segmentLength;
+		}
+	}
+	private void seekWithinSegment(long ticks)
+	{
+		if (ticks > 2L) 
+		{
+			this.ticksPassed += ticks - 2L;
+			ticks = 2L;
+		}
+		
+		for (; ticks > 0L; --ticks)
+			this.tick();
+	}
+	/**
+	 * Leaves the cycle as it would be right after making the amount of 
+	 * updates given, without making each one of them; only called right
+	 * after an update was made.
+	 * 
+	 * @param updates how many updates to skip; always above {@code 0}
+	 * @return {@code true} if they were skipped; {@code false} if they 
+	 * have to be made one by one, which is what it does by default
+	 */
+	protected boolean skipUpdates(long updates) {
+		return false;
+	}
+	
 	@Override
 	public long getModifiedTime(ClientWorld world, DayNightGetterType executor, boolean previous) {
 		return previous ? this.previousCachedTime : this.cachedTime;
@@ -4,19 +4,21 @@ import jugglestruggle.timechangerstruggle.client.config.property.FancySectionPro
 import jugglestruggle.timechangerstruggle.client.config.widget.WidgetConfigInterface;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
 import jugglestruggle.timechangerstruggle.config.property.BooleanValue;
-import jugglestruggle.timechangerstruggle.config.property.EnumValue;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
 import jugglestruggle.timechangerstruggle.config.property.LongValue;
 import jugglestruggle.timechangerstruggle.config.property.StringValue;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
+import jugglestruggle.timechangerstruggle.util.CycleRandom;
 import jugglestruggle.timechangerstruggle.util.EasingType;
 import jugglestruggle.timechangerstruggle.util.Easings;
+import jugglestruggle.timechangerstruggle.util.RandomAlgorithm;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.Map.Entry;
@@ -24,8 +26,6 @@ import java.util.Map.Entry;
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 
-import com.google.common.collect.ImmutableSet;
-
 /**
  * A time which it is randomized through crazy means. This can essentially
  * turn into seizures as the time is ran though the randomizer. The initial
@@ -38,6 +38,130 @@ import com.google.common.collect.ImmutableSet;
 @Environment(EnvType.CLIENT)
 public class RandomizedTime extends MovingTimeBasis
 {
+	private static final RandomAlgorithm[] RANDOM_ALGORITHMS = RandomAlgorithm.values();
+	
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<RandomizedTime> PROPERTY_SCHEMA = 
+		CyclePropertySchema.builder(RandomizedTime.class)
+		.section("seed", "jugglestruggle.tcs.dnt.randomizer.properties.seed")
+		.stringProperty("startingSeed", cycle -> (cycle.startingSeed == null) ? "" : cycle.startingSeed, null, true)
+		.enumProperty("randomAlgorithm", cycle -> cycle.randomAlgorithm, 
+			RandomAlgorithm.JAVA, RandomizedTime.RANDOM_ALGORITHMS, algorithm -> algorithm.getFormattedText())
+		
+		.section("daylightrandomtime", "jugglestruggle.tcs.dnt.randomizer.properties.daylightrandomtime")
+		.longProperty("minimumRandomTime", cycle -> cycle.minimumRandomTime, 0L, Long.MAX_VALUE)
+		.longProperty("maximumRandomTime", cycle -> cycle.maximumRandomTime, 0L, Long.MAX_VALUE)
+		
+		.section("ticksuntilnextrng", "jugglestruggle.tcs.dnt.randomizer.properties.ticksuntilnextrng")
+		.booleanProperty("randomizeTicksUntilNextRNG", cycle -> cycle.randomizeTicksUntilNextRNG)
+		.longProperty("ticksUntilNextRNG", cycle -> cycle.ticksUntilNextRNGBasis, 1L, Long.MAX_VALUE)
+		.longProperty("ticksUntilNextRNGMin", cycle -> cycle.ticksUntilNextRNGMin, 1L, Long.MAX_VALUE)
+		.longProperty("ticksUntilNextRNGMax", cycle -> cycle.ticksUntilNextRNGMax, 1L, Long.MAX_VALUE)
+		
+		.section("easings", "jugglestruggle.tcs.dnt.randomizer.properties.easings")
+		.booleanProperty("randomizeEasingBetweenTicks", cycle -> cycle.randomizeEasingBetweenTicks)
+		.enumProperty("easingBetweenTicks", cycle -> cycle.easingBetweenTicksBasis, 
+			Easings.LINEAR, MovingTimeBasis.EASINGS, easing -> easing.getFormattedText())
+		.booleanProperty("randomizeEasingTypeBetweenTicks", cycle -> cycle.randomizeEasingTypeBetweenTicks)
+		.enumProperty("easingTypeBetweenTicks", cycle -> cycle.easingTypeBetweenTicksBasis, 
+			EasingType.BETWEEN, MovingTimeBasis.EASING_TYPES, easing -> easing.getFormattedText())
+		.build();
+	
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle.
+	 */
+	private static final CyclePropertyBindings<RandomizedTime> PROPERTY_BINDINGS = 
+		CyclePropertyBindings.builder(RandomizedTime.class)
+		.bind("startingSeed", StringValue.class, (cycle, prop) ->
+		{
+			cycle.startingSeed = prop.get();
+			
+			if (!cycle.hasTickUpdateOccured)
+				cycle.requestRecompute(RandomizedTime.RECOMPUTE_RNG);
+		})
+		.bindEnum("randomAlgorithm", RandomAlgorithm.class, (cycle, algorithm) ->
+		{
+			if (cycle.randomAlgorithm == algorithm)
+				return;
+			
+			cycle.randomAlgorithm = algorithm;
+			cycle.requestRecompute(RandomizedTime.RECOMPUTE_RNG);
+		})
+		.bind("minimumRandomTime", LongValue.class, (cycle, prop) -> cycle.minimumRandomTime = prop.get())
+		.bind("maximumRandomTime", LongValue.class, (cycle, prop) -> cycle.maximumRandomTime = prop.get())
+		.bind("ticksUntilNextRNG", LongValue.class, (cycle, prop) ->
+		{
+			cycle.ticksUntilNextRNGBasis = prop.get();
+			
+			if (!cycle.randomizeTicksUntilNextRNG)
+				cycle.ticksUntilNextCall = cycle.ticksUntilNextRNGBasis;
+		})
+		.bind("ticksUntilNextRNGMin", LongValue.class, (cycle, prop) ->
+		{
+			cycle.ticksUntilNextRNGMin = prop.get();
+			cycle.onTicksUntilNextRNGRangeChanged();
+		})
+		.bind("ticksUntilNextRNGMax", LongValue.class, (cycle, prop) ->
+		{
+			cycle.ticksUntilNextRNGMax = prop.get();
+			cycle.onTicksUntilNextRNGRangeChanged();
+		})
+		.bind("randomizeTicksUntilNextRNG", BooleanValue.class, (cycle, prop) ->
+		{
+			cycle.randomizeTicksUntilNextRNG = prop.get(); 
+			
+			if (cycle.randomizeTicksUntilNextRNG)
+				cycle.requestRecompute(RandomizedTime.RECOMPUTE_TICKS_UNTIL_NEXT_RNG);
+			else
+				cycle.ticksUntilNextCall = cycle.ticksUntilNextRNGBasis;
+		})
+		.bind("randomizeEasingBetweenTicks", BooleanValue.class, (cycle, prop) ->
+		{
+			cycle.randomizeEasingBetweenTicks = prop.get(); 
+			
+			if (cycle.randomizeEasingBetweenTicks)
+				cycle.requestRecompute(RandomizedTime.RECOMPUTE_EASING);
+			else
+				cycle.easingBetweenTicks = cycle.easingBetweenTicksBasis;
+		})
+		.bind("randomizeEasingTypeBetweenTicks", BooleanValue.class, (cycle, prop) ->
+		{
+			cycle.randomizeEasingTypeBetweenTicks = prop.get(); 
+			
+			if (cycle.randomizeEasingTypeBetweenTicks)
+				cycle.requestRecompute(RandomizedTime.RECOMPUTE_EASING_TYPE);
+			else
+				cycle.easingType = cycle.easingTypeBetweenTicksBasis;
+		})
+		.bindEnum("easingBetweenTicks", Easings.class, (cycle, easing) ->
+		{
+			cycle.easingBetweenTicksBasis = easing; 
+			
+			if (!cycle.randomizeEasingBetweenTicks)
+				cycle.easingBetweenTicks = cycle.easingBetweenTicksBasis;
+		})
+		.bindEnum("easingTypeBetweenTicks", EasingType.class, (cycle, easingType) ->
+		{
+			cycle.easingTypeBetweenTicksBasis = easingType; 
+			
+			if (!cycle.randomizeEasingTypeBetweenTicks)
+				cycle.easingType = cycle.easingTypeBetweenTicksBasis;
+		})
+		.build();
+	
+	/**
+	 * Recreates the RNG from {@link #startingSeed}, which also re-rolls
+	 * everything that is randomized.
+	 */
+	private static final int RECOMPUTE_RNG = 1;
+	private static final int RECOMPUTE_TICKS_UNTIL_NEXT_RNG = 2;
+	private static final int RECOMPUTE_EASING = 4;
+	private static final int RECOMPUTE_EASING_TYPE = 8;
+	
 	/** 
 	 * The initial seed whenever this class is created, loaded or 
 	 * property-loaded provided that the property-load was done without 
@@ -47,6 +171,11 @@ public class RandomizedTime extends MovingTimeBasis
 	 * {@linkplain System#currentTimeMillis() current millisecond}.
 	 */
 	public String startingSeed;
+	/**
+	 * The algorithm that {@link #rng} is made with; changing it makes the
+	 * RNG again from {@link #startingSeed}.
+	 */
+	public RandomAlgorithm randomAlgorithm = RandomAlgorithm.JAVA;
 	
 	/**
 	 * Minimum value for daylight randomization.
@@ -117,37 +246,62 @@ public class RandomizedTime extends MovingTimeBasis
 	
 	/**
 	 * The master randomizer. BEHOLD!
+	 * 
+	 * <p> If its algorithm {@linkplain RandomAlgorithm#isSplitIntoStreams() 
+	 * is split into streams}, each {@link #updateInterpolation()} takes its 
+	 * values from a stream of its own, so what the cycle does on any update
+	 * can be worked out from the seed alone without going through the 
+	 * updates before it. Otherwise the values are taken one after another,
+	 * as they always were.
 	 */
-	public Random rng;
+	public CycleRandom rng;
+	/**
+	 * Whether {@link #rng} gives each update a stream of its own.
+	 */
+	protected boolean rngSplitIntoStreams;
+	/**
+	 * The stream of {@link #rng} that the next {@link #updateInterpolation()}
+	 * takes its values from; the same as how many updates were made since
+	 * the RNG was made. Unused if {@link #rngSplitIntoStreams} is off.
+	 */
+	protected long nextStream = 0L;
 	
 	/**
 	 * Only used for helping in creation of the RNG seed.
 	 */
 	protected boolean hasTickUpdateOccured = false;
 	
+	/**
+	 * How many batches of property writes are open; see 
+	 * {@link #beginPropertyUpdate()}.
+	 */
+	private int propertyUpdateDepth = 0;
+	/**
+	 * What is left to be worked out once the batch of property writes is 
+	 * committed, as {@code RECOMPUTE_} flags.
+	 */
+	private int pendingRecomputes = 0;
+	
 	
 	public RandomizedTime(String startingSeed, boolean applyRNG) {
 		this.createRNG(startingSeed, applyRNG);
 	}
 	private void createRNG(String startingSeed, boolean applyRNG)
 	{
+		final RandomAlgorithm algorithm = (this.randomAlgorithm == null) ? RandomAlgorithm.JAVA : this.randomAlgorithm;
+		
 		if (startingSeed == null || startingSeed.length() == 0) {
-			this.rng = new Random(System.currentTimeMillis());
+			this.rng = algorithm.create(System.currentTimeMillis());
 		} 
 		else 
 		{
-			int seed = 0;
-			
-			try {
-				seed = Integer.parseInt(startingSeed);
-			} catch (Exception e) {
-				seed = startingSeed.hashCode();
-			}
-			
-			this.rng = new Random(seed);
+			this.rng = algorithm.create(algorithm.seedFromString(startingSeed));
 			this.startingSeed = startingSeed;
 		}
 		
+		this.rngSplitIntoStreams = algorithm.isSplitIntoStreams();
+		this.nextStream = 0L;
+		
 		if (applyRNG) 
 		{
 			// Called twice to update the current and previous interpolation
@@ -167,6 +321,9 @@ public class RandomizedTime extends MovingTimeBasis
 	@Override
 	public void updateInterpolation()
 	{
+		if (this.rngSplitIntoStreams)
+			this.rng.jumpToStream(this.nextStream++);
+		
 		this.genNextRandomTime();
 		
 		if (this.randomizeTicksUntilNextRNG)
@@ -178,7 +335,34 @@ public class RandomizedTime extends MovingTimeBasis
 			this.genRandomizedEasingType();
 	}
 	
-	private long genNextLongRNG(Random rng, long minRand, long maxRand) 
+	/**
+	 * Only the last two updates are made if every update takes its values
+	 * from a stream of its own; the ones before it are jumped over. If the
+	 * values are taken one after another, every update is made without 
+	 * the ticks in between as how many values an update takes is only 
+	 * known once it is made. Updates cannot be skipped if 
+	 * {@link #randomizeTicksUntilNextRNG} is on as each of them decides 
+	 * how long it lasts.
+	 */
+	@Override
+	protected boolean skipUpdates(long updates)
+	{
+		if (this.randomizeTicksUntilNextRNG)
+			return false;
+		
+		if (this.rngSplitIntoStreams && updates > 2L)
+		{
+			this.nextStream += updates - 2L;
+			updates = 2L;
+		}
+		
+		for (; updates > 0L; --updates)
+			this.updateCall();
+		
+		return true;
+	}
+	
+	private long genNextLongRNG(CycleRandom rng, long minRand, long maxRand) 
 	{
 		if (minRand < 0)
 			minRand = 0;
@@ -186,7 +370,7 @@ public class RandomizedTime extends MovingTimeBasis
 		if (maxRand < 0)
 			maxRand = 1;
 		// Force maxRand to be inclusive if not the maximum value Long can hold
-		// as Java's Random implementation makes the maximum value exclusive
+		// as the RNG makes the maximum value exclusive
 		else if (maxRand != Long.MAX_VALUE)
 			maxRand += 1L;
 		
@@ -201,6 +385,44 @@ public class RandomizedTime extends MovingTimeBasis
 			this.genTicksUntilNextRNG();
 		}
 	}
+	/**
+	 * Works out what a property write asked for right away, or once the
+	 * batch is committed if there is one.
+	 * 
+	 * @param recompute one of the {@code RECOMPUTE_} flags
+	 */
+	private void requestRecompute(int recompute)
+	{
+		if (this.propertyUpdateDepth > 0)
+			this.pendingRecomputes |= recompute;
+		else
+			this.recompute(recompute);
+	}
+	private void recompute(int recomputes)
+	{
+		if ((recomputes & RandomizedTime.RECOMPUTE_RNG) != 0)
+		{
+			// Creating it goes through the calls again, which already re-rolls
+			// everything that is randomized
+			this.createRNG(this.startingSeed, true);
+			return;
+		}
+		
+		// Checked again as a later write in the batch may have turned it off
+		if ((recomputes & RandomizedTime.RECOMPUTE_TICKS_UNTIL_NEXT_RNG) != 0 && this.randomizeTicksUntilNextRNG)
+			this.shouldGenTicksUntilNextRNG();
+		if ((recomputes & RandomizedTime.RECOMPUTE_EASING) != 0 && this.randomizeEasingBetweenTicks)
+			this.genRandomizedEasing();
+		if ((recomputes & RandomizedTime.RECOMPUTE_EASING_TYPE) != 0 && this.randomizeEasingTypeBetweenTicks)
+			this.genRandomizedEasingType();
+	}
+	private void onTicksUntilNextRNGRangeChanged()
+	{
+		if (this.randomizeTicksUntilNextRNG)
+			this.requestRecompute(RandomizedTime.RECOMPUTE_TICKS_UNTIL_NEXT_RNG);
+		else
+			this.easingBetweenTicks = this.easingBetweenTicksBasis;
+	}
 	private void genNextRandomTime() {
 		this.nextInterpolatedTime = this.genNextLongRNG(this.rng, this.minimumRandomTime, this.maximumRandomTime);
 	}
@@ -260,165 +482,29 @@ public class RandomizedTime extends MovingTimeBasis
 	}
 	
 	@Override
-	public Set<BaseProperty<?, ?>> createProperties()
-	{
-		ImmutableSet.Builder<BaseProperty<?, ?>> prop = ImmutableSet.builderWithExpectedSize(12);
-		
-		final String sectLang = "jugglestruggle.tcs.dnt.randomizer.properties.";
-		
-		prop.add(new FancySectionProperty("seed", new TranslatableText(sectLang+"seed")));
-		prop.add(new StringValue("startingSeed", (this.startingSeed == null) ? "" : this.startingSeed).setEmptyTextAllowance(true));
-		
-		prop.add(new FancySectionProperty("daylightrandomtime", new TranslatableText(sectLang+"daylightrandomtime")));
-		prop.add(new LongValue("minimumRandomTime", this.minimumRandomTime, 0L, Long.MAX_VALUE));
-		prop.add(new LongValue("maximumRandomTime", this.maximumRandomTime, 0L, Long.MAX_VALUE));
-		
-		prop.add(new FancySectionProperty("ticksuntilnextrng", new TranslatableText(sectLang+"ticksuntilnextrng")));
-		prop.add(new BooleanValue("randomizeTicksUntilNextRNG", this.randomizeTicksUntilNextRNG));
-		prop.add(new LongValue("ticksUntilNextRNG", this.ticksUntilNextRNGBasis, 1L, Long.MAX_VALUE));
-		prop.add(new LongValue("ticksUntilNextRNGMin", this.ticksUntilNextRNGMin, 1L, Long.MAX_VALUE));
-		prop.add(new LongValue("ticksUntilNextRNGMax", this.ticksUntilNextRNGMax, 1L, Long.MAX_VALUE));
-		
-		prop.add(new FancySectionProperty("easings", new TranslatableText(sectLang+"easings")));
-		prop.add(new BooleanValue("randomizeEasingBetweenTicks", this.randomizeEasingBetweenTicks));
-		prop.add(new EnumValue<>("easingBetweenTicks", this.easingBetweenTicksBasis, Easings.LINEAR, Easings.values())
-			.setVTT(easing -> easing.getFormattedText()));
-		prop.add(new BooleanValue("randomizeEasingTypeBetweenTicks", this.randomizeEasingTypeBetweenTicks));
-		prop.add(new EnumValue<>("easingTypeBetweenTicks", this.easingTypeBetweenTicksBasis, EasingType.BETWEEN, EasingType.values())
-			.setVTT(easing -> easing.getFormattedText()));
-		
-		return prop.build();
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return RandomizedTime.PROPERTY_SCHEMA.createProperties(this);
 	}
 	
 	@Override
-//	public <B extends BaseProperty<B, V>, V> void writePropertyValueToCycle(B property)
-	public void writePropertyValueToCycle(BaseProperty<?, ?> property)
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		RandomizedTime.PROPERTY_BINDINGS.write(this, property);
+	}
+	
+	@Override
+	public void beginPropertyUpdate() {
+		++this.propertyUpdateDepth;
+	}
+	@Override
+	public void commitPropertyUpdate()
 	{
-		final String belongingKey = property.property();
+		if (this.propertyUpdateDepth <= 0 || --this.propertyUpdateDepth > 0)
+			return;
 		
-		if (property instanceof StringValue)
-		{
-			if (belongingKey.equals("startingSeed"))
-			{
-				this.startingSeed = ((StringValue)property).get();
-				
-				if (!this.hasTickUpdateOccured)
-					this.createRNG(this.startingSeed, true);
-			}
-		}
-		else if (property instanceof LongValue)
-		{
-			LongValue prop = (LongValue)property;
-			
-			switch (belongingKey)
-			{
-				case "minimumRandomTime": 
-					this.minimumRandomTime = prop.get(); break;
-				case "maximumRandomTime": 
-					this.maximumRandomTime = prop.get(); break;
-					
-				case "ticksUntilNextRNG": 
-				{
-					this.ticksUntilNextRNGBasis = prop.get();
-					
-					if (!this.randomizeTicksUntilNextRNG)
-						this.ticksUntilNextCall = this.ticksUntilNextRNGBasis;
-						
-					break;
-				}
-				case "ticksUntilNextRNGMin": 
-				case "ticksUntilNextRNGMax": 
-				{
-					if (belongingKey.equals("ticksUntilNextRNGMax"))
-						this.ticksUntilNextRNGMax = prop.get();
-					else
-						this.ticksUntilNextRNGMin = prop.get();
-						
-					if (this.randomizeTicksUntilNextRNG)
-						this.shouldGenTicksUntilNextRNG();
-					else
-						this.easingBetweenTicks = this.easingBetweenTicksBasis;
-					
-					break;
-				}
-			}
-		}
-		else if (property instanceof BooleanValue)
-		{
-			BooleanValue prop = (BooleanValue)property;
-			
-			switch (belongingKey)
-			{
-				case "randomizeTicksUntilNextRNG": 
-				{
-					this.randomizeTicksUntilNextRNG = prop.get(); 
-					
-					if (this.randomizeTicksUntilNextRNG)
-						this.shouldGenTicksUntilNextRNG();
-					else
-						this.ticksUntilNextCall = this.ticksUntilNextRNGBasis;
-					
-					break;
-				}
-				case "randomizeEasingBetweenTicks": 
-				{
-					this.randomizeEasingBetweenTicks = prop.get(); 
-					
-					if (this.randomizeEasingBetweenTicks)
-						this.genRandomizedEasing();
-					else
-						this.easingBetweenTicks = this.easingBetweenTicksBasis;
-					
-					break;
-				}
-				case "randomizeEasingTypeBetweenTicks": 
-				{
-					this.randomizeEasingTypeBetweenTicks = prop.get(); 
-					
-					if (this.randomizeEasingTypeBetweenTicks)
-						this.genRandomizedEasingType();
-					else
-						this.easingType = this.easingTypeBetweenTicksBasis;
-					
-					break;
-				}
-			}
-		}
-		else if (property instanceof EnumValue<?>)
-		{
-			EnumValue<?> prop = (EnumValue<?>)property;
-			
-			if (prop.getDefaultValue() instanceof Easings)
-			{
-				switch (belongingKey)
-				{
-					case "easingBetweenTicks": 
-					{
-						this.easingBetweenTicksBasis = (Easings)prop.get(); 
-						
-						if (!this.randomizeEasingBetweenTicks)
-							this.easingBetweenTicks = this.easingBetweenTicksBasis;
-						
-						break;
-					}
-				}
-			}
-			else if (prop.getDefaultValue() instanceof EasingType)
-			{
-				switch (belongingKey)
-				{
-					case "easingTypeBetweenTicks": 
-					{
-						this.easingTypeBetweenTicksBasis = (EasingType)prop.get(); 
-						
-						if (!this.randomizeEasingTypeBetweenTicks)
-							this.easingType = this.easingTypeBetweenTicksBasis;
-						
-						break;
-					}
-				}
-			}
-		}
+		final int recomputes = this.pendingRecomputes;
+		this.pendingRecomputes = 0;
+		
+		this.recompute(recomputes);
 	}
 	
 	@Override
@@ -5,6 +5,8 @@ import jugglestruggle.timechangerstruggle.client.config.widget.NumericFieldWidge
 import jugglestruggle.timechangerstruggle.client.screen.TimeChangerScreen;
 import jugglestruggle.timechangerstruggle.client.widget.ButtonWidgetEx;
 import jugglestruggle.timechangerstruggle.config.property.BaseProperty;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertyBindings;
+import jugglestruggle.timechangerstruggle.config.property.CyclePropertySchema;
 import jugglestruggle.timechangerstruggle.config.property.LongValue;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
@@ -28,7 +30,6 @@ import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.world.ClientWorld;
 
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 
 /**
@@ -44,6 +45,25 @@ import com.google.common.collect.Lists;
 @Environment(EnvType.CLIENT)
 public class StaticTime implements DayNightCycleBasis
 {
+	/**
+	 * Describes the properties of the cycle; only the properties themselves
+	 * are made whenever they are created.
+	 */
+	private static final CyclePropertySchema<StaticTime> PROPERTY_SCHEMA = 
+		CyclePropertySchema.builder(StaticTime.class)
+		.section("time", "jugglestruggle.tcs.dnt.statictime.properties.time")
+		.longProperty("worldtime", cycle -> cycle.timeSet, null, null)
+		.build();
+	
+	/**
+	 * Writes each of the properties made by {@link #createProperties()} back
+	 * to the cycle.
+	 */
+	private static final CyclePropertyBindings<StaticTime> PROPERTY_BINDINGS = 
+		CyclePropertyBindings.builder(StaticTime.class)
+		.bind("worldtime", LongValue.class, (cycle, prop) -> cycle.timeSet = prop.get())
+		.build();
+	
 	public long timeSet = 0;
 
 	@Override
@@ -55,6 +75,12 @@ public class StaticTime implements DayNightCycleBasis
 		return this.timeSet;
 	}
 
+	/**
+	 * Nothing changes over time, so there is nowhere to move to.
+	 */
+	@Override
+	public void seek(long ticks) {}
+	
 	@Override
 	public Class<?> getBuilderClass() {
 		return Builder.class;
@@ -63,13 +89,12 @@ public class StaticTime implements DayNightCycleBasis
 	@Override
 	public Element[] createQuickOptionElements(TimeChangerScreen screen)
 	{
-		final Iterator<BaseProperty<?, ?>> propsCreated = this.createProperties().iterator();
-
-		final FancySectionProperty sectionProp = (FancySectionProperty)propsCreated.next();
+		// Only the one property is needed rather than every one of them
+		final FancySectionProperty sectionProp = StaticTime.PROPERTY_SCHEMA.getSection("worldtime");
 		final String sectionRoughLang = ((TranslatableText)sectionProp.get()).getKey();
 
 		final NumericFieldWidgetConfig<Long> worldTimeProp = (NumericFieldWidgetConfig<Long>)
-			((LongValue)propsCreated.next()).createConfigElement(screen, sectionProp);
+			((LongValue)StaticTime.PROPERTY_SCHEMA.createProperty(this, "worldtime")).createConfigElement(screen, sectionProp);
 		
 		List<PresetSetTimes> setTimes = 
 			Lists.newArrayList(PresetSetTimes.values()).stream()
@@ -130,26 +155,13 @@ public class StaticTime implements DayNightCycleBasis
 	}
 	
 	@Override
-	public Set<BaseProperty<?, ?>> createProperties()
-	{
-		ImmutableSet.Builder<BaseProperty<?, ?>> prop = ImmutableSet.builderWithExpectedSize(2);
-		
-		final String sectLang = "jugglestruggle.tcs.dnt.statictime.properties.";
-
-		prop.add(new FancySectionProperty("time", new TranslatableText(sectLang+"time")));
-		prop.add(new LongValue("worldtime", this.timeSet, null, null));
-
-		return prop.build();
+	public Set<BaseProperty<?, ?>> createProperties() {
+		return StaticTime.PROPERTY_SCHEMA.createProperties(this);
 	}
 	
 	@Override
-	public void writePropertyValueToCycle(BaseProperty<?, ?> property)
-	{
-		final String belongingKey = property.property();
-		
-		if (property instanceof LongValue && belongingKey.equals("worldtime")) {
-			this.timeSet = ((LongValue)property).get();
-		}
+	public void writePropertyValueToCycle(BaseProperty<?, ?> property) {
+		StaticTime.PROPERTY_BINDINGS.write(this, property);
 	}
 	
 	public static enum PresetSetTimes
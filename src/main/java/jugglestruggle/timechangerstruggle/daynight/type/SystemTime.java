@@ -3,12 +3,17 @@ package jugglestruggle.timechangerstruggle.daynight.type;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBuilder;
 import jugglestruggle.timechangerstruggle.daynight.DayNightGetterType;
+import jugglestruggle.timechangerstruggle.daynight.simulation.ClientCycleEnvironment;
+import jugglestruggle.timechangerstruggle.daynight.simulation.CycleEnvironment;
 import jugglestruggle.timechangerstruggle.util.DaylightUtils;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 
-import java.util.Calendar;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 
 import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
@@ -23,44 +28,99 @@ import net.minecraft.client.world.ClientWorld;
 @Environment(EnvType.CLIENT)
 public class SystemTime implements DayNightCycleBasis
 {
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	
 	private long cachedTime;
 	private long previousCachedTime;
+	
+	private CycleEnvironment environment = ClientCycleEnvironment.INSTANCE;
+	
+	/**
+	 * The zone's offset (in milliseconds) and the range of epoch millis 
+	 * where it stays the same, which is until the zone's previous or next
+	 * transition (like daylight saving time).
+	 */
+	private long zoneOffset;
+	private long zoneOffsetValidFrom = Long.MAX_VALUE;
+	private long zoneOffsetValidUntil = Long.MIN_VALUE;
+	/**
+	 * The local day (days since the epoch) that {@link #dayOfYear} is for.
+	 */
+	private long localDay = Long.MIN_VALUE;
+	private int dayOfYear;
 
 	public SystemTime() {
 		this.tick();
 	}
 	
 	@Override
-	public void tick()
+	public void setEnvironment(CycleEnvironment environment) 
 	{
-		Calendar now = Calendar.getInstance();
+		this.environment = environment;
 		
-//		int year = now.get(Calendar.YEAR);
-		int doy = now.get(Calendar.DAY_OF_YEAR);
+		// Forget about anything that came from the previous environment's clock
+		this.zoneOffsetValidFrom = Long.MAX_VALUE;
+		this.zoneOffsetValidUntil = Long.MIN_VALUE;
+		this.localDay = Long.MIN_VALUE;
+	}
+	
+	/**
+	 * Turns the wall-clock time into ticks without allocating anything;
+	 * the zone offset and the day of the year are only looked up again 
+	 * when a zone transition is crossed or the day changes.
+	 */
+	@Override
+	public void tick()
+	{
+		final long millis = this.environment.currentTimeMillis();
 		
-		// TODO: Account for the current time instead of relying time in a day
-		// int year = now.get(Calendar.YEAR);
-		long hour   = now.get(Calendar.HOUR_OF_DAY);
-		double mins = (double)now.get(Calendar.MINUTE);
-		double secs = (double)now.get(Calendar.SECOND);
+		if (millis < this.zoneOffsetValidFrom || millis >= this.zoneOffsetValidUntil)
+			this.updateZoneOffset(millis);
 		
-		hour -= 6;
+		final long localMillis = millis + this.zoneOffset;
+		final long day = Math.floorDiv(localMillis, SystemTime.MILLIS_PER_DAY);
 		
-		// Since hour is less than 0 (subtracted from 6) then add 24 (which
-		// in the end subtracts 24 from hour as hour is negative) to get a
-		// previous' day of time
-		if (hour < 0) {
-			hour += 24; 
+		if (day != this.localDay) 
+		{
+			this.localDay = day;
+			this.dayOfYear = LocalDate.ofEpochDay(day).getDayOfYear();
 		}
 		
-		mins = mins * DaylightUtils.ONE_MINUTE;
-		secs = secs * DaylightUtils.ONE_SECOND;
+		final long millisOfDay = localMillis - day * SystemTime.MILLIS_PER_DAY;
 		
 		this.previousCachedTime = this.cachedTime;
-		// TODO: Do something better here in minutes and seconds
-//		this.cachedTime = (hour * (long)DaylightUtils.ONE_HOUR) + (long)(mins + secs);
-		this.cachedTime = /*((long)year * (long)DaylightUtils.ONE_YEAR) + */(doy * (long)DaylightUtils.ONE_DAY) + 
-			(hour * (long)DaylightUtils.ONE_HOUR) + (long)(mins + secs);
+		
+		// Minecraft's day starts at 06:00 (0 ticks) so midnight is moved back by
+		// 6 hours (-6000 ticks); every millisecond counts so the sky moves smoothly
+		this.cachedTime = (long)this.dayOfYear * (long)DaylightUtils.ONE_DAY - (long)DaylightUtils.MIDDAY + 
+			millisOfDay * (long)DaylightUtils.ONE_DAY / SystemTime.MILLIS_PER_DAY;
+	}
+	
+	/**
+	 * The time only comes from the clock, which seeking does not move; every 
+	 * tick after the last two would give the same times.
+	 */
+	@Override
+	public void seek(long ticks)
+	{
+		for (long i = Math.max(ticks - 2L, 0L); i < ticks; ++i)
+			this.tick();
+	}
+	
+	private void updateZoneOffset(long millis)
+	{
+		final ZoneRules rules = this.environment.getTimeZone().toZoneId().getRules();
+		final Instant now = Instant.ofEpochMilli(millis);
+		
+		this.zoneOffset = rules.getOffset(now).getTotalSeconds() * 1000L;
+		
+		final ZoneOffsetTransition previousTransition = rules.previousTransition(now);
+		final ZoneOffsetTransition nextTransition = rules.nextTransition(now);
+		
+		this.zoneOffsetValidFrom = previousTransition == null ? 
+			Long.MIN_VALUE : previousTransition.toEpochSecond() * 1000L;
+		this.zoneOffsetValidUntil = nextTransition == null ? 
+			Long.MAX_VALUE : nextTransition.toEpochSecond() * 1000L;
 	}
 	
 	@Override
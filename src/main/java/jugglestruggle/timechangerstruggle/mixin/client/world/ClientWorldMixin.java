@@ -9,7 +9,12 @@ import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.client.world.ClientWorld;
 
 import jugglestruggle.timechangerstruggle.client.TimeChangerStruggleClient;
+import jugglestruggle.timechangerstruggle.client.WorldCycles;
+import jugglestruggle.timechangerstruggle.client.util.debug.OffThreadTimeCalls;
+import jugglestruggle.timechangerstruggle.client.util.render.SkyAngleCache;
+import jugglestruggle.timechangerstruggle.daynight.DayNightCycleBasis;
 import jugglestruggle.timechangerstruggle.daynight.DayNightGetterType;
+import jugglestruggle.timechangerstruggle.daynight.DayNightTimeSnapshot;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -18,6 +23,9 @@ import java.util.function.Supplier;
 
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
  * Client world mixin; the main class that handles our glorious time which cannot
@@ -28,7 +36,7 @@ import org.spongepowered.asm.mixin.Unique;
  */
 @Mixin(ClientWorld.class)
 @Environment(EnvType.CLIENT)
-public abstract class ClientWorldMixin extends World
+public abstract class ClientWorldMixin extends World implements WorldCycles.Holder
 {
 	protected ClientWorldMixin(MutableWorldProperties properties, RegistryKey<World> registryRef,
 		DimensionType dimensionType, Supplier<Profiler> profiler, boolean isClient, boolean debugWorld, long seed)
@@ -36,65 +44,107 @@ public abstract class ClientWorldMixin extends World
 		super(properties, registryRef, dimensionType, profiler, isClient, debugWorld, seed);
 	}
 	
+	@Unique
+	private final SkyAngleCache tcs_skyAngleCache = new SkyAngleCache();
+	
+	/**
+	 * The cycle of this world; only touched by the client thread.
+	 */
+	@Unique
+	private DayNightCycleBasis tcs_cycle;
+	/**
+	 * The times that {@link #tcs_cycle} published on its last tick, which is 
+	 * what every getter reads from.
+	 */
+	@Unique
+	private volatile DayNightTimeSnapshot tcs_timeSnapshot;
+	
+	@Inject(method = "<init>", at = @At("RETURN"))
+	private void tcs_resolveCycle(CallbackInfo info) {
+		TimeChangerStruggleClient.resolveWorldCycle((ClientWorld)(Object)this);
+	}
+	
 	@Override
-	public long getTimeOfDay() 
-	{
-		return TimeChangerStruggleClient.useWorldTime() ? 
-			super.getTimeOfDay() : this.tcs_getModifiedTime(DayNightGetterType.DEFAULT, false);
+	public DayNightCycleBasis tcs_getCycle() {
+		return this.tcs_cycle;
 	}
 	@Override
-	public long getLunarTime() 
-	{
-		return TimeChangerStruggleClient.useWorldTime() ? 
-			super.getLunarTime() : this.tcs_getModifiedTime(DayNightGetterType.LUNAR, false);
+	public void tcs_setCycle(DayNightCycleBasis cycle) {
+		this.tcs_cycle = cycle;
+	}
+	@Override
+	public DayNightTimeSnapshot tcs_getTimeSnapshot() {
+		return this.tcs_timeSnapshot;
+	}
+	@Override
+	public void tcs_setTimeSnapshot(DayNightTimeSnapshot snapshot) {
+		this.tcs_timeSnapshot = snapshot;
+	}
+	
+	@Override
+	public long getTimeOfDay() {
+		return this.tcs_getModifiedTime(DayNightGetterType.DEFAULT, false);
+	}
+	@Override
+	public long getLunarTime() {
+		return this.tcs_getModifiedTime(DayNightGetterType.LUNAR, false);
 	}
 	@Unique
-	public long getPreviousTimeOfDay() 
-	{
-		return TimeChangerStruggleClient.useWorldTime() ? 
-			super.getTimeOfDay() : this.tcs_getModifiedTime(DayNightGetterType.DEFAULT, true);
+	public long getPreviousTimeOfDay() {
+		return this.tcs_getModifiedTime(DayNightGetterType.DEFAULT, true);
 	}
 	@Unique
-	public long getPreviousLunarTime() 
-	{
-		return TimeChangerStruggleClient.useWorldTime() ? 
-			super.getLunarTime() : this.tcs_getModifiedTime(DayNightGetterType.LUNAR, true);
+	public long getPreviousLunarTime() {
+		return this.tcs_getModifiedTime(DayNightGetterType.LUNAR, true);
 	}
 	
+	/**
+	 * Reads the time published by this world's cycle on its last tick; the
+	 * snapshot is only loaded once so that the current and previous times
+	 * always come from the same tick.
+	 * 
+	 * <p> This is safe to call from any thread (chunk builders and lighting
+	 * workers do) since only the snapshot is read and never the cycle.
+	 */
 	@Unique
-	public long tcs_getModifiedTime(DayNightGetterType executor, boolean previous) {
-		return TimeChangerStruggleClient.getTimeChanger().getModifiedTime((ClientWorld)(Object)this, executor, previous);
+	public long tcs_getModifiedTime(DayNightGetterType executor, boolean previous) 
+	{
+		OffThreadTimeCalls.record();
+		
+		final DayNightTimeSnapshot snapshot = TimeChangerStruggleClient.worldTime ? null : this.tcs_timeSnapshot;
+		
+		if (snapshot == null)
+			return executor == DayNightGetterType.LUNAR ? super.getLunarTime() : super.getTimeOfDay();
+		else
+			return snapshot.get(executor, previous);
 	}
 	
 	@Override
 	public float getSkyAngle(float tickDelta)
 	{
-		final DimensionType dt = this.getDimension();
+		final DayNightTimeSnapshot snapshot = TimeChangerStruggleClient.worldTime ? null : this.tcs_timeSnapshot;
 		
-		final long lunarTime  = this.getLunarTime();
-		float lunarAngle = dt.getSkyAngle(lunarTime);
+		final long lunarTime;
+		final long lunarTimePrev;
 		
-		if (TimeChangerStruggleClient.smoothButterCycle)
+		if (snapshot == null) {
+			lunarTime = lunarTimePrev = super.getLunarTime();
+		} 
+		else if (snapshot.lunarTimeBetweenTicks != null) 
 		{
-			final long lunarTimePrev = this.getPreviousLunarTime();
-			float lunarAnglePrev = dt.getSkyAngle(lunarTimePrev);
+			// The cycle knows its own time in between ticks, which is already
+			// as smooth as it gets; blending it again would only make it lag
+			lunarTime = lunarTimePrev = snapshot.lunarTimeBetweenTicks.getTime(tickDelta);
 			
-			// This is important; not having it means that once either previous or current reaches higher 
-			// than 1.0 in its sky angle it will be reset immediately back to 0 point whatever as a result 
-			// of MathHelper.fractionalPart in DimensionType.getSkyAngle removing whole numbers and causing
-			// it to transition backwards; so in the meantime this is the best that I could come up.
-			if ((lunarAnglePrev > lunarAngle) && (lunarTime > lunarTimePrev)) {
-				lunarAngle += 1f;
-			} else if ((lunarAngle > lunarAnglePrev) && (lunarTimePrev > lunarTime)) {
-				lunarAnglePrev += 1f;
-			}
-			
-			return lunarAnglePrev + (lunarAngle - lunarAnglePrev) * tickDelta;
+			return this.tcs_skyAngleCache.getSkyAngle(this.getDimension(), 
+				lunarTime, lunarTimePrev, tickDelta, false);
 		}
-		else
-		{
-			return lunarAngle;
+		else {
+			lunarTime = snapshot.lunarTime; lunarTimePrev = snapshot.previousLunarTime;
 		}
+		
+		return this.tcs_skyAngleCache.getSkyAngle(this.getDimension(), 
+			lunarTime, lunarTimePrev, tickDelta, TimeChangerStruggleClient.smoothButterCycle);
 	}
 	
 	/*
@@ -0,0 +1,216 @@
+package jugglestruggle.timechangerstruggle.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A random number generator which is split into streams, where each
+ * stream can be gone to right away from the seed without generating any
+ * of the values that come before it.
+ *
+ * <p> None of the generators are synchronized as they are only ever used
+ * by the cycle that owns them.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ *
+ * @see RandomAlgorithm
+ */
+public interface CycleRandom extends RandomGenerator
+{
+	/**
+	 * How many values each stream is given before it runs into the next
+	 * one, for the generators which jump along a single sequence.
+	 */
+	long STREAM_LENGTH = 1L << 16;
+
+	/**
+	 * Seeds the generator and goes to the start of the first stream.
+	 *
+	 * @param seed the seed
+	 */
+	void setSeed(long seed);
+	/**
+	 * Goes to the start of the stream, as if the generator had just been
+	 * seeded and had gone through every stream before it.
+	 *
+	 * @param stream the stream to go to; counting from {@code 0}
+	 */
+	void jumpToStream(long stream);
+
+
+
+	/**
+	 * The same linear congruential generator as {@link java.util.Random},
+	 * which gives the same values for the same seed, but without it being
+	 * synchronized; jumping is done by working out the generator stepped
+	 * many times as one step.
+	 */
+	final class Legacy implements CycleRandom
+	{
+		private static final long MULTIPLIER = 0x5DEECE66DL;
+		private static final long ADDEND = 0xBL;
+		private static final long MASK = (1L << 48) - 1;
+
+		private long initialState;
+		private long state;
+
+		public Legacy(long seed) {
+			this.setSeed(seed);
+		}
+
+		@Override
+		public void setSeed(long seed) {
+			this.initialState = this.state = (seed ^ Legacy.MULTIPLIER) & Legacy.MASK;
+		}
+		@Override
+		public void jumpToStream(long stream)
+		{
+			long steps = stream * CycleRandom.STREAM_LENGTH;
+
+			long multiplier = 1L;
+			long addend = 0L;
+
+			long stepMultiplier = Legacy.MULTIPLIER;
+			long stepAddend = Legacy.ADDEND;
+
+			// Squares the step each round so that it only takes as many rounds
+			// as there are bits in the amount of steps
+			while (steps != 0L)
+			{
+				if ((steps & 1L) != 0L)
+				{
+					multiplier = (multiplier * stepMultiplier) & Legacy.MASK;
+					addend = (addend * stepMultiplier + stepAddend) & Legacy.MASK;
+				}
+
+				stepAddend = ((stepMultiplier + 1L) * stepAddend) & Legacy.MASK;
+				stepMultiplier = (stepMultiplier * stepMultiplier) & Legacy.MASK;
+
+				steps >>>= 1;
+			}
+
+			this.state = (this.initialState * multiplier + addend) & Legacy.MASK;
+		}
+
+		private int next(int bits)
+		{
+			this.state = (this.state * Legacy.MULTIPLIER + Legacy.ADDEND) & Legacy.MASK;
+			return (int)(this.state >>> (48 - bits));
+		}
+
+		@Override
+		public int nextInt() {
+			return this.next(32);
+		}
+		@Override
+		public int nextInt(int bound)
+		{
+			if (bound <= 0)
+				throw new IllegalArgumentException("bound must be positive");
+
+			int value = this.next(31);
+			final int max = bound - 1;
+
+			if ((bound & max) == 0)
+				return (int)((bound * (long)value) >> 31);
+
+			for (int u = value; u - (value = u % bound) + max < 0; u = this.next(31));
+
+			return value;
+		}
+		@Override
+		public long nextLong() {
+			return ((long)this.next(32) << 32) + this.next(32);
+		}
+	}
+
+	/**
+	 * SplitMix64, which only has to add to its state to go to the next value
+	 * and so can jump anywhere by multiplying.
+	 */
+	final class SplitMix implements CycleRandom
+	{
+		private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+		private long seed;
+		private long state;
+
+		public SplitMix(long seed) {
+			this.setSeed(seed);
+		}
+
+		@Override
+		public void setSeed(long seed) {
+			this.seed = this.state = seed;
+		}
+		@Override
+		public void jumpToStream(long stream) {
+			this.state = this.seed + stream * CycleRandom.STREAM_LENGTH * SplitMix.GAMMA;
+		}
+
+		@Override
+		public long nextLong() {
+			return SplitMix.mix64(this.state += SplitMix.GAMMA);
+		}
+
+		static long mix64(long z)
+		{
+			z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+			z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+			return z ^ (z >>> 31);
+		}
+	}
+
+	/**
+	 * Xoroshiro128++, which has the better randomness of the three. Jumping
+	 * along its sequence any amount would take far too long, so each
+	 * stream is instead seeded through {@link SplitMix} from the seed and
+	 * the stream; which is how it is usually seeded anyways.
+	 */
+	final class Xoroshiro implements CycleRandom
+	{
+		private long seed;
+
+		private long state0;
+		private long state1;
+
+		public Xoroshiro(long seed) {
+			this.setSeed(seed);
+		}
+
+		@Override
+		public void setSeed(long seed)
+		{
+			this.seed = seed;
+			this.jumpToStream(0L);
+		}
+		@Override
+		public void jumpToStream(long stream)
+		{
+			final long streamSeed = this.seed + stream * 2L * SplitMix.GAMMA;
+
+			this.state0 = SplitMix.mix64(streamSeed + SplitMix.GAMMA);
+			this.state1 = SplitMix.mix64(streamSeed + 2L * SplitMix.GAMMA);
+
+			// An all-zero state only ever gives zeroes
+			if ((this.state0 | this.state1) == 0L)
+				this.state0 = SplitMix.GAMMA;
+		}
+
+		@Override
+		public long nextLong()
+		{
+			final long s0 = this.state0;
+			long s1 = this.state1;
+
+			final long result = Long.rotateLeft(s0 + s1, 17) + s0;
+
+			s1 ^= s0;
+			this.state0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+			this.state1 = Long.rotateLeft(s1, 28);
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,378 @@
+package jugglestruggle.timechangerstruggle.util;
+
+import java.time.Instant;
+import java.time.Year;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * Formats ticks (or the date they represent) into a reused buffer and
+ * only does so when the value to format has changed; otherwise the same
+ * string as last time is returned.
+ *
+ * <p> The date is written using the same pattern as
+ * {@link DaylightUtils#DATE_FORMAT} ({@code DD yyyy-MM-dd HH:mm:ss}) and
+ * the same calendar as {@link DaylightUtils#minecraftTicksToDate}: Julian
+ * until the 4th of October 1582 and Gregorian from the 15th onwards, which
+ * means that both show the same text.
+ *
+ * <p> This is not thread-safe; each thread should have its own instance.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public final class DaylightTimeFormatter
+{
+	/**
+	 * The Julian Day Number of the first day (1st of January, year 0).
+	 */
+	private static final long JDN_OF_FIRST_DAY = 1721058L;
+	/**
+	 * The Julian Day Number of the 15th of October 1582, the first day
+	 * that uses the Gregorian calendar.
+	 */
+	private static final long JDN_OF_GREGORIAN_CUTOVER = 2299161L;
+	/**
+	 * The Julian Day Number of the 1st of January 1970.
+	 */
+	private static final long JDN_OF_EPOCH = 2440588L;
+	/**
+	 * How often the default time zone is checked for being changed, in
+	 * nanoseconds; getting it makes a copy so it is not done every time.
+	 */
+	private static final long ZONE_CHECK_INTERVAL = 1_000_000_000L;
+
+	private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+	private final StringBuilder buffer = new StringBuilder(24);
+
+	private boolean hasFormatted = false;
+	private long lastTicks;
+	private boolean lastAddDay;
+	private boolean lastDateOverTicks;
+
+	private String formatted;
+
+	private String zoneId;
+	private ZoneGaps zoneGaps;
+	private long zoneCheckedAt;
+
+	/**
+	 * Formats the ticks either as the number of ticks or as a date.
+	 *
+	 * @param ticks the time of day
+	 * @param addDay whether a day is added to the date; see
+	 * {@link DaylightUtils#minecraftTicksToDate(long, boolean)}
+	 * @param dateOverTicks {@code true} to format as a date
+	 *
+	 * @return the formatted text; the same instance is returned for as
+	 * long as the parameters are the same as the last call
+	 */
+	public String format(long ticks, boolean addDay, boolean dateOverTicks)
+	{
+		if (this.hasFormatted && this.lastTicks == ticks &&
+			this.lastAddDay == addDay && this.lastDateOverTicks == dateOverTicks)
+		{
+			return this.formatted;
+		}
+
+		this.buffer.setLength(0);
+
+		if (dateOverTicks)
+			DaylightTimeFormatter.appendDate(this.buffer, ticks, addDay, this.getDefaultZoneGaps());
+		else
+			this.buffer.append(ticks);
+
+		this.hasFormatted = true;
+		this.lastTicks = ticks;
+		this.lastAddDay = addDay;
+		this.lastDateOverTicks = dateOverTicks;
+
+		return this.formatted = this.buffer.toString();
+	}
+
+	/**
+	 * Gets the gaps of the default time zone, which are only made again
+	 * if the default time zone was changed since the last time.
+	 */
+	private ZoneGaps getDefaultZoneGaps()
+	{
+		final long now = System.nanoTime();
+
+		if (this.zoneGaps == null || now - this.zoneCheckedAt >= DaylightTimeFormatter.ZONE_CHECK_INTERVAL)
+		{
+			this.zoneCheckedAt = now;
+
+			final TimeZone zone = TimeZone.getDefault();
+
+			if (this.zoneGaps == null || !zone.getID().equals(this.zoneId))
+			{
+				this.zoneId = zone.getID();
+				this.zoneGaps = new ZoneGaps(zone.toZoneId().getRules());
+			}
+		}
+
+		return this.zoneGaps;
+	}
+
+	/**
+	 * Appends the date that the ticks represent in the default time zone 
+	 * to the builder.
+	 */
+	public static void appendDate(StringBuilder builder, long ticks, boolean addDay) {
+		DaylightTimeFormatter.appendDate(builder, ticks, addDay, TimeZone.getDefault().toZoneId().getRules());
+	}
+	/**
+	 * Appends the date that the ticks represent to the builder.
+	 *
+	 * @param zoneRules the rules of the time zone which the date is in
+	 */
+	public static void appendDate(StringBuilder builder, long ticks, boolean addDay, ZoneRules zoneRules) {
+		DaylightTimeFormatter.appendDate(builder, ticks, addDay, new ZoneGaps(zoneRules));
+	}
+	/**
+	 * Appends the date that the ticks represent to the builder. Nothing 
+	 * else is allocated unless the date is away from the last transition
+	 * of the zone that was looked up.
+	 */
+	private static void appendDate(StringBuilder builder, long ticks, boolean addDay, ZoneGaps zoneGaps)
+	{
+		// Minecraft's day starts at 06:00 rather than at midnight
+		final long alignedTicks = ticks - (long)DaylightUtils.MIDNIGHT + (long)DaylightUtils.ONE_DAY;
+
+		long days = alignedTicks / (long)DaylightUtils.ONE_DAY;
+		long ticksOfDay = alignedTicks - days * (long)DaylightUtils.ONE_DAY;
+		
+		// Done the same way as minecraftTicksToDate (including its rounding)
+		// so that both show the same time; the calendar that it uses is lenient
+		// so the minutes and seconds can overflow or underflow which is then
+		// carried over to the next field
+		final int hours = (int)(ticksOfDay / (long)DaylightUtils.ONE_HOUR);
+		ticksOfDay -= hours * DaylightUtils.ONE_HOUR;
+		
+		final int minutes = (int)(ticksOfDay / (long)DaylightUtils.ONE_MINUTE);
+		ticksOfDay -= minutes * DaylightUtils.ONE_MINUTE;
+		
+		final int seconds = (int)(ticksOfDay / DaylightUtils.ONE_SECOND);
+		
+		int secondsOfDay = hours * 3600 + minutes * 60 + seconds;
+		
+		days += Math.floorDiv(secondsOfDay, 86400);
+		secondsOfDay = Math.floorMod(secondsOfDay, 86400);
+
+		if (addDay)
+			days += 1L;
+
+		long jdn;
+
+		long year;
+		int month;
+		int dayOfMonth;
+		boolean leapYear;
+
+		boolean zoneChecked = false;
+
+		while (true)
+		{
+			// Day 1 is the 1st of January of year 0
+			jdn = DaylightTimeFormatter.JDN_OF_FIRST_DAY + days - 1L;
+
+			if (jdn >= DaylightTimeFormatter.JDN_OF_GREGORIAN_CUTOVER)
+			{
+				// Gregorian calendar from days since the epoch
+				final long z = jdn - DaylightTimeFormatter.JDN_OF_EPOCH + 719468L;
+				final long era = Math.floorDiv(z, 146097L);
+				final long dayOfEra = z - era * 146097L;
+				final long yearOfEra = (dayOfEra - dayOfEra / 1460L + dayOfEra / 36524L - dayOfEra / 146096L) / 365L;
+				final long dayOfYear = dayOfEra - (365L * yearOfEra + yearOfEra / 4L - yearOfEra / 100L);
+				final long mp = (5L * dayOfYear + 2L) / 153L;
+
+				dayOfMonth = (int)(dayOfYear - (153L * mp + 2L) / 5L + 1L);
+				month = (int)(mp < 10L ? mp + 3L : mp - 9L);
+
+				final long gregorianYear = yearOfEra + era * 400L + (month <= 2 ? 1L : 0L);
+
+				year = gregorianYear;
+				leapYear = (gregorianYear % 4L == 0L) && ((gregorianYear % 100L != 0L) || (gregorianYear % 400L == 0L));
+			}
+			else
+			{
+				// Julian calendar from the Julian Day Number
+				final long c = jdn + 32082L;
+				final long d = Math.floorDiv(4L * c + 3L, 1461L);
+				final long e = c - Math.floorDiv(1461L * d, 4L);
+				final long m = (5L * e + 2L) / 153L;
+
+				dayOfMonth = (int)(e - (153L * m + 2L) / 5L + 1L);
+				month = (int)(m + 3L - 12L * (m / 10L));
+				year = d - 4800L + m / 10L;
+				leapYear = Math.floorMod(year, 4L) == 0L;
+			}
+
+			if (!zoneChecked && jdn >= DaylightTimeFormatter.JDN_OF_GREGORIAN_CUTOVER)
+			{
+				zoneChecked = true;
+
+				// The calendar moves times which the clocks skip over (like when
+				// daylight saving time starts) forward by as much as was skipped
+				final int gapSeconds = (year < Year.MIN_VALUE || year > Year.MAX_VALUE) ? 0 :
+					zoneGaps.getGapSeconds((jdn - DaylightTimeFormatter.JDN_OF_EPOCH) * 86400L + secondsOfDay);
+
+				if (gapSeconds > 0)
+				{
+					secondsOfDay += gapSeconds;
+
+					if (secondsOfDay >= 86400)
+					{
+						secondsOfDay -= 86400;
+						++days;
+
+						continue;
+					}
+				}
+			}
+
+			break;
+		}
+
+		int dayOfYear = DaylightTimeFormatter.DAYS_BEFORE_MONTH[month - 1] +
+			((leapYear && month > 2) ? 1 : 0) + dayOfMonth;
+		
+		// The 10 days skipped by the cutover are not part of 1582
+		if (year == 1582L && jdn >= DaylightTimeFormatter.JDN_OF_GREGORIAN_CUTOVER)
+			dayOfYear -= 10;
+
+		// Years before 1 are shown as the era's year (year 0 is 1 BC)
+		final long yearOfEra = year <= 0L ? 1L - year : year;
+
+		DaylightTimeFormatter.appendPadded(builder, dayOfYear, 2);
+		builder.append(' ');
+		DaylightTimeFormatter.appendPadded(builder, yearOfEra, 4);
+		builder.append('-');
+		DaylightTimeFormatter.appendPadded(builder, month, 2);
+		builder.append('-');
+		DaylightTimeFormatter.appendPadded(builder, dayOfMonth, 2);
+		builder.append(' ');
+		DaylightTimeFormatter.appendPadded(builder, secondsOfDay / 3600, 2);
+		builder.append(':');
+		DaylightTimeFormatter.appendPadded(builder, (secondsOfDay / 60) % 60, 2);
+		builder.append(':');
+		DaylightTimeFormatter.appendPadded(builder, secondsOfDay % 60, 2);
+	}
+
+	private static void appendPadded(StringBuilder builder, long value, int minDigits)
+	{
+		for (long limit = 10L, digits = 1; digits < minDigits; limit *= 10L, ++digits)
+		{
+			if (value < limit)
+				builder.append('0');
+		}
+
+		builder.append(value);
+	}
+
+	/**
+	 * Finds the gaps (times which the clocks skip over) of a zone by local
+	 * time and keeps the stretch of time around the last one that was asked
+	 * for, so that the transitions are only looked up again once a time
+	 * outside of that stretch is asked for.
+	 */
+	private static final class ZoneGaps
+	{
+		/**
+		 * How far the offset of any zone can be from UTC, in seconds.
+		 */
+		private static final long MAX_OFFSET = 18L * 3600L;
+
+		private final ZoneRules zoneRules;
+
+		/**
+		 * The local time, in seconds since the epoch, from which the cached
+		 * result applies.
+		 */
+		private long validFrom;
+		/**
+		 * The local time, in seconds since the epoch, until which (exclusive)
+		 * the cached result applies.
+		 */
+		private long validUntil;
+		private int gapSeconds;
+
+		ZoneGaps(ZoneRules zoneRules)
+		{
+			this.zoneRules = zoneRules;
+
+			if (zoneRules.isFixedOffset())
+			{
+				this.validFrom = Long.MIN_VALUE;
+				this.validUntil = Long.MAX_VALUE;
+			}
+		}
+
+		/**
+		 * Gets how far the clocks skipped over the local time, if they did; a
+		 * time that was skipped over does not exist in that zone.
+		 *
+		 * @param localSeconds the local time in seconds since the epoch
+		 *
+		 * @return the length of the gap in seconds; {@code 0} if the time is
+		 * not in one
+		 */
+		int getGapSeconds(long localSeconds)
+		{
+			if (localSeconds < this.validFrom || localSeconds >= this.validUntil)
+				this.lookUp(localSeconds);
+
+			return this.gapSeconds;
+		}
+
+		/**
+		 * Looks up the transition whose local times (from the earliest to the
+		 * latest of its two offsets) contain the time or else the stretch
+		 * between the two transitions around it, where there is no gap.
+		 */
+		private void lookUp(long localSeconds)
+		{
+			// The local times of transitions before this all end before the time
+			final long from = localSeconds - 2L * ZoneGaps.MAX_OFFSET;
+
+			long validFrom = from + ZoneGaps.MAX_OFFSET;
+			ZoneOffsetTransition transition = this.zoneRules.nextTransition(Instant.ofEpochSecond(from));
+
+			while (transition != null)
+			{
+				final long epochSecond = transition.toEpochSecond();
+				final int offsetBefore = transition.getOffsetBefore().getTotalSeconds();
+				final int offsetAfter = transition.getOffsetAfter().getTotalSeconds();
+
+				final long start = epochSecond + Math.min(offsetBefore, offsetAfter);
+				final long end = epochSecond + Math.max(offsetBefore, offsetAfter);
+
+				if (localSeconds < start)
+				{
+					this.validFrom = validFrom;
+					this.validUntil = start;
+					this.gapSeconds = 0;
+
+					return;
+				}
+				else if (localSeconds < end)
+				{
+					this.validFrom = start;
+					this.validUntil = end;
+					this.gapSeconds = transition.isGap() ? (int)(end - start) : 0;
+
+					return;
+				}
+
+				validFrom = end;
+				transition = this.zoneRules.nextTransition(transition.getInstant());
+			}
+
+			this.validFrom = validFrom;
+			this.validUntil = Long.MAX_VALUE;
+			this.gapSeconds = 0;
+		}
+	}
+}
@@ -45,6 +45,12 @@ public final class DaylightUtils
 	public static SimpleDateFormat DATE_FORMAT = 
 		new SimpleDateFormat("DD yyyy-MM-dd HH:mm:ss", Locale.ENGLISH);
 	
+	/**
+	 * Used by {@link #getParsedTime}, which is only ever called from the
+	 * client thread (the screen and the commands).
+	 */
+	private static final DaylightTimeFormatter PARSED_TIME_FORMATTER = new DaylightTimeFormatter();
+	
 	
 	
 	public static Date minecraftTicksToDate(long ticks, boolean addDay)
@@ -87,6 +93,13 @@ public final class DaylightUtils
 		return cal.getTime();
 	}
 	
+	/**
+	 * Gets the current time as ticks or as a date; the text is only
+	 * formatted again if the time has changed since the last call.
+	 * 
+	 * @return the formatted time; the same instance is returned for as 
+	 * long as the time stays the same
+	 */
 	public static String getParsedTime(World world, boolean dateOverTicks)
 	{
 		long ticksToParse;
@@ -105,7 +118,6 @@ public final class DaylightUtils
 			addDay = cycle.shouldAddDayForDateDisplay();
 		}
 		
-		return dateOverTicks ? DaylightUtils.DATE_FORMAT.format(
-			DaylightUtils.minecraftTicksToDate(ticksToParse, addDay)) : ""+ticksToParse;
+		return DaylightUtils.PARSED_TIME_FORMATTER.format(ticksToParse, addDay, dateOverTicks);
 	}
 }
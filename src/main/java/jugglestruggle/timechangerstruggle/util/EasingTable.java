@@ -0,0 +1,182 @@
+package jugglestruggle.timechangerstruggle.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed lookup tables for every {@link Easings} and {@link EasingType}
+ * combination, used instead of the exact functions when enabled.
+ *
+ * <p> Each curve is sampled at {@link #getResolution()} equally sized steps
+ * between 0.0 and 1.0 and values in-between two samples are linearly
+ * interpolated. Curves which cannot be tabulated (see
+ * {@link Easings#canBeTabulated()}) and deltas outside of 0.0 to 1.0 are
+ * always evaluated using the exact functions.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public final class EasingTable
+{
+	public static final int DEFAULT_RESOLUTION = 1024;
+	public static final int MIN_RESOLUTION = 16;
+	public static final int MAX_RESOLUTION = 65536;
+
+	/**
+	 * Cached as {@code values()} creates a new array on every call.
+	 */
+	private static final int EASING_TYPE_COUNT = EasingType.values().length;
+
+	/**
+	 * Uses the lookup tables when set to {@code true}; otherwise the exact
+	 * functions are used.
+	 */
+	private static volatile boolean enabled = false;
+	private static volatile int resolution = EasingTable.DEFAULT_RESOLUTION;
+
+	/**
+	 * Indexed by {@link #indexOf(Easings, EasingType)}; entries are
+	 * {@code null} for curves that cannot be tabulated. The array as a
+	 * whole is replaced whenever the resolution changes.
+	 */
+	private static volatile double[][] tables = null;
+
+	private EasingTable() {}
+
+	public static boolean isEnabled() {
+		return EasingTable.enabled;
+	}
+	public static void setEnabled(boolean enabled)
+	{
+		if (enabled && EasingTable.tables == null)
+			EasingTable.tables = EasingTable.createTables(EasingTable.resolution);
+
+		EasingTable.enabled = enabled;
+	}
+	public static int getResolution() {
+		return EasingTable.resolution;
+	}
+	/**
+	 * Sets the amount of steps every table has, rebuilding them if they
+	 * were already built.
+	 *
+	 * @param resolution the amount of steps; clamped between
+	 * {@link #MIN_RESOLUTION} and {@link #MAX_RESOLUTION}
+	 */
+	public static void setResolution(int resolution)
+	{
+		resolution = Math.max(EasingTable.MIN_RESOLUTION, Math.min(EasingTable.MAX_RESOLUTION, resolution));
+
+		if (EasingTable.resolution == resolution)
+			return;
+
+		EasingTable.resolution = resolution;
+
+		if (EasingTable.tables != null)
+			EasingTable.tables = EasingTable.createTables(resolution);
+	}
+
+	/**
+	 * Gets the value of the easing either from its lookup table or from
+	 * its exact function depending on whether the tables are enabled.
+	 *
+	 * @see Easings#value(EasingType, double)
+	 */
+	public static double value(Easings easing, EasingType type, double delta)
+	{
+		final double[][] currentTables = EasingTable.tables;
+
+		if (!EasingTable.enabled || currentTables == null || !(delta >= 0.0 && delta <= 1.0))
+			return easing.value(type, delta);
+
+		final double[] table = currentTables[EasingTable.indexOf(easing, type)];
+
+		if (table == null)
+			return easing.value(type, delta);
+
+		return EasingTable.lookup(table, delta);
+	}
+
+	/**
+	 * Measures the biggest difference between every lookup table and the
+	 * exact function it was built from by sampling in-between each step.
+	 *
+	 * @param resolution the resolution of the tables to measure
+	 * @param samplesPerStep how many samples to check within each step
+	 *
+	 * @return the maximum absolute error of each curve, ordered by easing
+	 * and then by its type; curves that cannot be tabulated are skipped
+	 */
+	public static Map<String, Double> computeMaxErrors(int resolution, int samplesPerStep)
+	{
+		final double[][] measuredTables = EasingTable.createTables(resolution);
+		final int totalSamples = resolution * Math.max(1, samplesPerStep);
+
+		Map<String, Double> errors = new LinkedHashMap<>(measuredTables.length);
+
+		for (Easings easing : Easings.values())
+		{
+			for (EasingType type : EasingType.values())
+			{
+				final double[] table = measuredTables[EasingTable.indexOf(easing, type)];
+
+				if (table == null)
+					continue;
+
+				double maxError = 0.0;
+
+				for (int i = 0; i <= totalSamples; ++i)
+				{
+					final double delta = (double)i / (double)totalSamples;
+					maxError = Math.max(maxError, Math.abs(EasingTable.lookup(table, delta) - easing.value(type, delta)));
+				}
+
+				errors.put(easing.toValueString() + "_" + type.toValueString(), maxError);
+			}
+		}
+
+		return errors;
+	}
+
+	private static double lookup(double[] table, double delta)
+	{
+		final int steps = table.length - 1;
+		final double position = delta * steps;
+
+		final int index = (int)position;
+
+		if (index >= steps)
+			return table[steps];
+
+		final double start = table[index];
+		return start + (table[index + 1] - start) * (position - index);
+	}
+
+	private static double[][] createTables(int resolution)
+	{
+		final EasingType[] types = EasingType.values();
+		final double[][] createdTables = new double[Easings.values().length * types.length][];
+
+		for (Easings easing : Easings.values())
+		{
+			if (!easing.canBeTabulated())
+				continue;
+
+			for (EasingType type : types)
+			{
+				final double[] table = new double[resolution + 1];
+
+				for (int i = 0; i <= resolution; ++i)
+					table[i] = easing.value(type, (double)i / (double)resolution);
+
+				createdTables[EasingTable.indexOf(easing, type)] = table;
+			}
+		}
+
+		return createdTables;
+	}
+
+	private static int indexOf(Easings easing, EasingType type) {
+		return easing.ordinal() * EasingTable.EASING_TYPE_COUNT + type.ordinal();
+	}
+}
@@ -30,12 +30,20 @@ public enum Easings implements InterchangeableFunction<Easings, String>
 		public double value(EasingType type, double delta) {
 			return Math.floor(delta);
 		}
+		@Override
+		public boolean canBeTabulated() {
+			return false;
+		}
 	},
 	CEILING { // JuggleStruggle
 		@Override
 		public double value(EasingType type, double delta) {
 			return Math.ceil(delta);
 		}
+		@Override
+		public boolean canBeTabulated() {
+			return false;
+		}
 	},
 	
 	// 
@@ -264,6 +272,15 @@ public enum Easings implements InterchangeableFunction<Easings, String>
 	 * @return a value from the easing type
 	 */
 	public abstract double value(EasingType type, double animationDelta);
+	/**
+	 * Gets the value the same way as {@link #value(EasingType, double)}
+	 * does but from a lookup table if those are enabled.
+	 * 
+	 * @see EasingTable
+	 */
+	public final double evaluate(EasingType type, double animationDelta) {
+		return EasingTable.value(this, type, animationDelta);
+	}
 	
 	public final double easingInValue(double delta) {
 		return this.value(EasingType.IN, delta);
@@ -293,6 +310,17 @@ public enum Easings implements InterchangeableFunction<Easings, String>
 	public boolean canBeRandomlyUsed() {
 		return true;
 	}
+	/**
+	 * Whether this easing can be stored in a lookup table; easings with
+	 * jumps cannot as the interpolation between steps would smooth them.
+	 * 
+	 * @return a boolean value
+	 * 
+	 * @see EasingTable
+	 */
+	public boolean canBeTabulated() {
+		return true;
+	}
 	
 	@Override
 	public Easings applyLeft(String value) {
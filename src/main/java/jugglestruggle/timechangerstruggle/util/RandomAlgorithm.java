@@ -0,0 +1,122 @@
+package jugglestruggle.timechangerstruggle.util;
+
+import java.util.Locale;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+
+/**
+ * The algorithms which can be used to make a {@link CycleRandom}.
+ *
+ * @author JuggleStruggle
+ * @implNote Created on 18-Oct-2026, Sunday
+ */
+public enum RandomAlgorithm implements InterchangeableFunction<RandomAlgorithm, String>
+{
+	/**
+	 * Gives the same values as {@link java.util.Random} did for the same
+	 * seed, including how the seed is made from text. Its values are taken
+	 * one after another rather than from streams, so that seeds which were
+	 * saved before streams existed still give the same cycle.
+	 */
+	JAVA {
+		@Override
+		public CycleRandom create(long seed) {
+			return new CycleRandom.Legacy(seed);
+		}
+		@Override
+		public long seedFromString(String seed)
+		{
+			try {
+				return Integer.parseInt(seed);
+			} catch (NumberFormatException e) {
+				return seed.hashCode();
+			}
+		}
+		@Override
+		public boolean isSplitIntoStreams() {
+			return false;
+		}
+	},
+	SPLITMIX {
+		@Override
+		public CycleRandom create(long seed) {
+			return new CycleRandom.SplitMix(seed);
+		}
+	},
+	XOROSHIRO {
+		@Override
+		public CycleRandom create(long seed) {
+			return new CycleRandom.Xoroshiro(seed);
+		}
+	};
+
+	public abstract CycleRandom create(long seed);
+
+	/**
+	 * Whether whoever uses the generator should give each of its updates a
+	 * stream of its own through {@link CycleRandom#jumpToStream(long)}, or
+	 * take every value one after another.
+	 *
+	 * @return {@code true} if updates should take values from streams
+	 */
+	public boolean isSplitIntoStreams() {
+		return true;
+	}
+
+	/**
+	 * Makes a seed from the text. Whole numbers are used as they are and
+	 * anything else is hashed to all 64 bits of the seed, rather than to
+	 * the 32 bits of {@link String#hashCode()}.
+	 *
+	 * @param seed the text to make a seed from; cannot be {@code null}
+	 * @return the seed
+	 */
+	public long seedFromString(String seed)
+	{
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException e) {
+			// FNV-1a, mixed afterwards so that similar texts end up far apart
+			long hash = 0xCBF29CE484222325L;
+
+			for (int i = 0; i < seed.length(); ++i)
+				hash = (hash ^ seed.charAt(i)) * 0x100000001B3L;
+
+			return CycleRandom.SplitMix.mix64(hash);
+		}
+	}
+
+	@Override
+	public RandomAlgorithm applyLeft(String value) {
+		return RandomAlgorithm.parseFromString(value);
+	}
+	@Override
+	public String applyRight(RandomAlgorithm value) {
+		return value.toValueString();
+	}
+
+
+	public final String toValueString() {
+		return this.toString().toLowerCase(Locale.ROOT);
+	}
+	public final Text getFormattedText() {
+		return new TranslatableText(String.format("jugglestruggle.tcs.randomalgorithm.%1$s", this.toValueString()), new Object[0]);
+	}
+
+
+	public static final RandomAlgorithm parseFromString(String name)
+	{
+		if (name == null || name.isEmpty() || name.isBlank())
+			return null;
+
+		return switch (name.toLowerCase(Locale.ROOT))
+		{
+			case "java" -> RandomAlgorithm.JAVA;
+			case "splitmix" -> RandomAlgorithm.SPLITMIX;
+			case "xoroshiro" -> RandomAlgorithm.XOROSHIRO;
+
+			default -> null;
+		};
+	}
+}